@@ -0,0 +1,41 @@
+package com.hackathon.project;
+
+import com.hackathon.project.domain.Subject.Subject;
+import com.hackathon.project.domain.Subject.SubjectRepository;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * 벤치마크 공통 입력. 성적표/카탈로그 합성 데이터는 테스트 소스의 fixture 패키지에서 만든다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final long SEED = 20251201L;
+
+    public static final List<String> CAREER_TEXTS = List.of(
+        "",
+        "백엔드 개발자",
+        "AI 연구원이 되고 싶고 머신러닝과 딥러닝에 관심이 많습니다",
+        "데이터 분석과 통계를 활용해 마케팅 전략을 세우는 일을 하고 싶어요. 시각화와 빅데이터에도 관심",
+        "보안 전문가가 되어 취약점 분석과 해킹 대응을 하고 싶다. 네트워크보안, 시스템보안, 암호 분야를 공부 중. "
+            + "스프링 기반 서버 개발 경험이 있고 클라우드 인프라에도 관심이 있으며, 장기적으로는 교육 콘텐츠도 만들고 싶다."
+    );
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * findDistinctByCourseName()만 고정 목록을 돌려주는 리포지토리 대역.
+     */
+    public static SubjectRepository repositoryOf(List<Subject> subjects) {
+        return (SubjectRepository) Proxy.newProxyInstance(
+            SubjectRepository.class.getClassLoader(),
+            new Class<?>[]{SubjectRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findDistinctByCourseName")) {
+                    return subjects;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
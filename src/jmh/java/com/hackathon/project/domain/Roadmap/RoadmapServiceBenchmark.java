@@ -0,0 +1,76 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.BenchmarkFixtures;
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseDTO;
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseResponseDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapAiResponseDTO;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.ScoredSubject;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.SubjectSummary;
+import com.hackathon.project.fixture.TranscriptFixtures;
+import com.hackathon.project.fixture.TranscriptFixtures.GradeDistribution;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 성적표 엑셀 파싱(행 목록/요약만)과 추천 과목 → 학기별 수강 계획 배분 벤치마크.
+ * Gemini 호출과 과목 추천 서비스는 사용하지 않으므로 null로 둔다.
+ */
+@State(Scope.Benchmark)
+public class RoadmapServiceBenchmark {
+
+    private static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Param({"50", "500", "5000"})
+    public int rows;
+
+    private RoadmapService roadmapService;
+    private MockMultipartFile transcript;
+    private List<RoadmapAiResponseDTO.CoursePlan> coursePlan;
+    private SubjectScoreResponseDTO recommendations;
+
+    @Setup
+    public void setUp() {
+        roadmapService = new RoadmapService(null, null, new WeightHintService(), new TermCalendar());
+        transcript = new MockMultipartFile("file", "transcript.xlsx", XLSX,
+            TranscriptFixtures.transcript(rows, GradeDistribution.TYPICAL, BenchmarkFixtures.SEED));
+
+        coursePlan = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            coursePlan.add(new RoadmapAiResponseDTO.CoursePlan(i + "학기", "목표 " + i, List.of(), "주 10시간"));
+        }
+
+        Random random = new Random(BenchmarkFixtures.SEED);
+        List<ScoredSubject> subjects = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            // 일부 학수번호를 겹치게 해 중복 제거 경로도 포함한다.
+            String code = "%06d".formatted(random.nextInt(Math.max(1, rows * 3 / 4)));
+            SubjectSummary summary = new SubjectSummary(code, "과목 " + i, "전선", null, 3.0,
+                1 + random.nextInt(4), "컴퓨터공학과", "컴퓨터공학과", "한국어", "이론", null, null);
+            subjects.add(new ScoredSubject(summary, random.nextInt(50), List.of("이름 매칭")));
+        }
+        recommendations = new SubjectScoreResponseDTO(List.of("백엔드"), rows, subjects);
+    }
+
+    @Benchmark
+    public List<ExcelParseDTO> parse() {
+        return roadmapService.parse(transcript);
+    }
+
+    @Benchmark
+    public ExcelParseResponseDTO summarizeOnly() {
+        return roadmapService.summarize(transcript, false);
+    }
+
+    @Benchmark
+    public List<RoadmapAiResponseDTO.CoursePlan> buildCoursePlanFromSubjects() {
+        return roadmapService.buildCoursePlanFromSubjects(coursePlan, recommendations);
+    }
+}
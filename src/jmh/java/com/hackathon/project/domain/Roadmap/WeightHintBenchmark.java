@@ -0,0 +1,34 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.BenchmarkFixtures;
+import com.hackathon.project.domain.Roadmap.dto.WeightHintResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 진로 텍스트 길이별 섹터 매칭(가중치 힌트 생성) 벤치마크.
+ * textIndex는 {@link BenchmarkFixtures#CAREER_TEXTS}의 위치로, 빈 문자열부터 긴 자기소개까지 포함한다.
+ */
+@State(Scope.Benchmark)
+public class WeightHintBenchmark {
+
+    @Param({"0", "1", "2", "3", "4"})
+    public int textIndex;
+
+    private WeightHintService weightHintService;
+    private String careerText;
+
+    @Setup
+    public void setUp() {
+        weightHintService = new WeightHintService();
+        careerText = BenchmarkFixtures.CAREER_TEXTS.get(textIndex);
+    }
+
+    @Benchmark
+    public WeightHintResponseDTO buildWeightHints() {
+        return weightHintService.buildWeightHints(careerText);
+    }
+}
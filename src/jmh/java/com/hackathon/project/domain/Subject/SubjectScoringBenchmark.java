@@ -0,0 +1,75 @@
+package com.hackathon.project.domain.Subject;
+
+import com.hackathon.project.BenchmarkFixtures;
+import com.hackathon.project.domain.Roadmap.WeightHintService;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreRequestDTO;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO;
+import com.hackathon.project.fixture.SubjectCatalogFixtures;
+import java.util.List;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 카탈로그 크기별 과목 추천 점수 계산 벤치마크.
+ * scoreSubjects는 캐시를 거치는 실제 요청 경로이고, rankUncached는 캐시 없이 매번 랭킹을 계산한다.
+ */
+@State(Scope.Benchmark)
+public class SubjectScoringBenchmark {
+
+    private static final int TOP_N = 20;
+
+    @Param({"1000", "10000", "100000"})
+    public int catalogSize;
+
+    private List<Subject> subjects;
+    private SubjectKeywordMatcher matcher;
+    private SubjectRecommendationService service;
+    private SubjectRanker ranker;
+    private SubjectCatalog catalog;
+    private SubjectScoreRequestDTO request;
+    private int sectorMask;
+    private Set<String> completedCodes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WeightHintService weightHintService = new WeightHintService();
+        subjects = SubjectCatalogFixtures.subjects(catalogSize, BenchmarkFixtures.SEED);
+        matcher = new SubjectKeywordMatcher(weightHintService);
+        SubjectCatalogService catalogService =
+            new SubjectCatalogService(BenchmarkFixtures.repositoryOf(subjects), matcher);
+        ranker = new SubjectRanker(false, 50000, 8192, 0);
+        service = new SubjectRecommendationService(
+            catalogService, weightHintService, ranker, new SubjectRankingCache(256, 200));
+
+        String careerText = BenchmarkFixtures.CAREER_TEXTS.get(3);
+        List<String> completed = subjects.stream()
+            .limit(30)
+            .map(Subject::getCourseCode)
+            .toList();
+        request = new SubjectScoreRequestDTO(careerText, TOP_N, completed);
+        catalog = catalogService.getCatalog();
+        sectorMask = weightHintService.toSectorMask(
+            weightHintService.buildWeightHints(careerText).getMatchedSectors());
+        completedCodes = Set.copyOf(completed);
+    }
+
+    @Benchmark
+    public SubjectScoreResponseDTO scoreSubjects() {
+        return service.scoreSubjects(request);
+    }
+
+    @Benchmark
+    public long[] rankUncached() {
+        return ranker.rank(catalog, sectorMask, completedCodes, TOP_N);
+    }
+
+    @Benchmark
+    public SubjectCatalog buildCatalog() {
+        return SubjectCatalog.of(subjects, matcher);
+    }
+}
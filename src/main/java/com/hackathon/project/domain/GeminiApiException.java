@@ -0,0 +1,58 @@
+package com.hackathon.project.domain;
+
+/**
+ * Gemini 호출 실패. 재시도해도 되는 실패(429, 5xx, 연결 오류)인지와
+ * 서킷 브레이커가 업스트림 장애로 셀 실패인지를 함께 담는다. 요청 자체가 잘못된 4xx는 둘 다 아니다.
+ * 호출 측이 스레드를 인터럽트하거나 요청을 끊어서 중단된 호출은 {@link #isCancelled()}이며 역시 둘 다 아니다.
+ */
+public class GeminiApiException extends IllegalStateException {
+
+    private final int statusCode;
+    private final boolean retryable;
+    private final boolean upstreamFailure;
+    private final boolean cancelled;
+
+    private GeminiApiException(String message, Throwable cause, int statusCode, boolean retryable,
+        boolean upstreamFailure, boolean cancelled) {
+        super(message, cause);
+        this.statusCode = statusCode;
+        this.retryable = retryable;
+        this.upstreamFailure = upstreamFailure;
+        this.cancelled = cancelled;
+    }
+
+    static GeminiApiException status(int statusCode, String body) {
+        boolean serverSide = statusCode == 429 || statusCode >= 500;
+        return new GeminiApiException("Gemini API 오류 응답: HTTP " + statusCode + " " + body, null,
+            statusCode, serverSide, serverSide, false);
+    }
+
+    static GeminiApiException io(Throwable cause) {
+        return new GeminiApiException("Gemini API 호출 실패", cause, 0, true, true, false);
+    }
+
+    // 마감 시간을 다 쓴 호출은 다시 시도해도 남은 시간이 없으므로 재시도하지 않는다.
+    static GeminiApiException timeout(String message, Throwable cause) {
+        return new GeminiApiException(message, cause, 0, false, true, false);
+    }
+
+    static GeminiApiException cancelled(Throwable cause) {
+        return new GeminiApiException("Gemini API 호출 취소", cause, 0, false, false, true);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    public boolean isUpstreamFailure() {
+        return upstreamFailure;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,206 @@
+package com.hackathon.project.domain;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini generateContent 호출용 HTTP 클라이언트.
+ * 커넥션 풀로 keep-alive 연결을 재사용해 요청마다 TLS 핸드셰이크를 하지 않으며,
+ * 연결/응답 대기 타임아웃과 별도로 호출 측이 넘긴 시간 제한(없으면 gemini.http.deadline)이 지나면 요청을 취소한다.
+ * 실패는 재시도 가능 여부를 담은 {@link GeminiApiException}으로 던지며, 클라이언트 자체의 자동 재시도는 끈다.
+ * 풀 상태는 httpcomponents.httpclient.pool.* 메트릭(httpclient=gemini)으로 노출한다.
+ * streamGenerateContent(SSE)도 같은 풀과 마감 시간을 쓴다.
+ */
+@Slf4j
+@Component
+public class GeminiClient {
+
+    private final String url;
+    private final String streamUrl;
+    private final String apiKey;
+    private final Duration deadline;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final ScheduledExecutorService deadlineScheduler;
+
+    public GeminiClient(
+        @Value("${gemini.url:https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:generateContent}")
+        String url,
+        @Value("${gemini.stream-url:https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:streamGenerateContent?alt=sse}")
+        String streamUrl,
+        @Value("${gemini.api-key}") String apiKey,
+        @Value("${gemini.http.connect-timeout:3s}") Duration connectTimeout,
+        @Value("${gemini.http.read-timeout:60s}") Duration readTimeout,
+        @Value("${gemini.http.deadline:90s}") Duration deadline,
+        @Value("${gemini.http.pool.max-connections:20}") int maxConnections,
+        @Value("${gemini.http.pool.acquire-timeout:2s}") Duration acquireTimeout,
+        MeterRegistry meterRegistry) {
+        this.url = url;
+        this.streamUrl = streamUrl;
+        this.apiKey = apiKey;
+        this.deadline = deadline;
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections) // 호스트가 하나뿐이므로 전체 한도와 같다.
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build())
+            .build();
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(acquireTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build())
+            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .evictExpiredConnections()
+            // 기본 재시도 전략은 429/503과 일부 IOException을 조용히 다시 보낸다. 재시도는 GeminiResilience가 예산 안에서만 한다.
+            .disableAutomaticRetries()
+            .build();
+        this.deadlineScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gemini-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "gemini").bindTo(meterRegistry);
+    }
+
+    /**
+     * JSON 요청 본문을 보내고 응답 본문을 문자열로 돌려준다. 2xx가 아니면 예외를 던진다.
+     */
+    public String generateContent(String requestBody) {
+        return generateContent(requestBody, cancel -> {
+        }, deadline);
+    }
+
+    /**
+     * onCancel로 이 요청을 끊는 동작을 넘겨준다. 헤지 요청 중 늦은 쪽을 끊을 때 쓴다.
+     * timeLimit은 이 요청 하나의 마감 시간으로, 재시도하는 쪽이 전체 마감까지 남은 시간을 넘긴다.
+     */
+    public String generateContent(String requestBody, Consumer<Runnable> onCancel, Duration timeLimit) {
+        return execute(url + "?key=" + apiKey, requestBody, onCancel, timeLimit, response -> {
+            // 본문을 끝까지 읽어야 연결이 풀로 반환되어 재사용된다.
+            String body = response.getEntity() == null
+                ? null : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+            if (response.getCode() / 100 != 2) {
+                throw GeminiApiException.status(response.getCode(), body);
+            }
+            return body;
+        });
+    }
+
+    /**
+     * 스트리밍 엔드포인트로 요청을 보내고, SSE 이벤트의 data(청크 하나의 JSON)를 도착하는 대로 onEvent에 넘긴다.
+     * onEvent가 던진 예외는 스트림을 끊고 그대로 전파된다.
+     */
+    public void streamGenerateContent(String requestBody, Consumer<String> onEvent) {
+        String separator = streamUrl.contains("?") ? "&" : "?";
+        execute(streamUrl + separator + "key=" + apiKey, requestBody, cancel -> {
+        }, deadline, response -> {
+            if (response.getCode() / 100 != 2) {
+                String body = response.getEntity() == null
+                    ? null : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+                throw GeminiApiException.status(response.getCode(), body);
+            }
+            if (response.getEntity() == null) {
+                return null;
+            }
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8))) {
+                StringBuilder data = new StringBuilder();
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (line.isEmpty()) {
+                        // 빈 줄에서 이벤트 하나가 끝난다.
+                        if (!data.isEmpty()) {
+                            onEvent.accept(data.toString());
+                            data.setLength(0);
+                        }
+                    } else if (line.startsWith("data:")) {
+                        if (!data.isEmpty()) {
+                            data.append('\n');
+                        }
+                        data.append(line, line.startsWith("data: ") ? 6 : 5, line.length());
+                    }
+                }
+                if (!data.isEmpty()) {
+                    onEvent.accept(data.toString());
+                }
+            }
+            return null;
+        });
+    }
+
+    private <T> T execute(String requestUrl, String requestBody, Consumer<Runnable> onCancel, Duration timeLimit,
+        HttpClientResponseHandler<T> handler) {
+        HttpPost post = new HttpPost(requestUrl);
+        post.setEntity(new StringEntity(requestBody, ContentType.APPLICATION_JSON));
+        onCancel.accept(post::cancel);
+
+        AtomicBoolean expired = new AtomicBoolean();
+        ScheduledFuture<?> timer = deadlineScheduler.schedule(() -> {
+            expired.set(true);
+            post.cancel();
+        }, timeLimit.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            return httpClient.execute(post, handler);
+        } catch (IOException e) {
+            if (expired.get()) {
+                throw GeminiApiException.timeout("Gemini API 호출 시간 초과(" + timeLimit + ")", e);
+            }
+            if (isCancellation(e)) {
+                throw GeminiApiException.cancelled(e);
+            }
+            throw GeminiApiException.io(e);
+        } finally {
+            timer.cancel(false);
+        }
+    }
+
+    // 호출 스레드가 인터럽트되었거나 요청이 끊긴 경우. 소켓 읽기 타임아웃도 InterruptedIOException이지만 업스트림 지연이다.
+    private static boolean isCancellation(IOException e) {
+        return Thread.currentThread().isInterrupted()
+            || (e instanceof InterruptedIOException && !(e instanceof SocketTimeoutException));
+    }
+
+    @PreDestroy
+    public void close() {
+        deadlineScheduler.shutdownNow();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Gemini HTTP 클라이언트 종료 실패", e);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.hackathon.project.domain;
+
+import com.hackathon.project.global.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 호출을 감싸는 장애 대응 계층.
+ * <ul>
+ *   <li>서킷 브레이커: 최근 호출의 실패율/느린 호출 비율이 높으면 일정 시간 호출 없이 바로
+ *       {@link GeminiUnavailableException}으로 실패한다.</li>
+ *   <li>마감 시간: 재시도를 포함한 호출 하나 전체가 gemini.http.deadline 안에 끝난다. 각 시도에는 남은 시간만
+ *       넘기며, 남은 시간이 응답 대기 한 번(read-timeout)보다 짧으면 더 재시도하지 않는다.</li>
+ *   <li>재시도: 429, 5xx, 연결 오류만 지수 백오프(full jitter)로 다시 시도한다. 호출 측이 인터럽트로 취소한
+ *       호출은 재시도하지 않고 예산과 브레이커 어느 쪽에도 반영하지 않는다. 재시도와 헤지 요청은
+ *       전역 재시도 예산(요청당 ratio만큼 적립, 최대 max-tokens)에서 하나씩 꺼내 쓰므로
+ *       장애 중에도 업스트림 부하가 요청 수의 (1 + ratio)배를 넘지 않는다.</li>
+ *   <li>헤지: 켜져 있으면 첫 요청이 최근 p95 지연(최소 min-delay)을 넘길 때 같은 요청을 한 번 더 보내고
+ *       먼저 성공한 응답을 쓰며 나머지는 끊는다.</li>
+ * </ul>
+ * 지연은 gemini.call 타이머(outcome 태그, 히스토그램 포함), 브레이커 상태는 gemini.circuit.state 게이지와
+ * health 엔드포인트의 geminiResilience 항목으로 노출한다.
+ */
+@Slf4j
+@Component
+public class GeminiResilience implements HealthIndicator {
+
+    /**
+     * 요청 하나. onCancel로 받은 동작을 실행하면 진행 중인 요청이 끊겨야 하고, timeLimit이 지나면 요청을 끝내야 한다.
+     */
+    @FunctionalInterface
+    public interface CancellableCall {
+
+        String call(Consumer<Runnable> onCancel, Duration timeLimit);
+    }
+
+    private final CircuitBreaker breaker;
+    private final Duration slowCallThreshold;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration callDeadline;
+    private final Duration readTimeout;
+    private final RetryBudget retryBudget;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeMinDelay;
+    private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter retries;
+    private final Counter hedges;
+    private final Counter shortCircuited;
+    private final Counter budgetExhausted;
+
+    public GeminiResilience(
+        @Value("${gemini.resilience.breaker.window-size:50}") int windowSize,
+        @Value("${gemini.resilience.breaker.minimum-calls:10}") int minimumCalls,
+        @Value("${gemini.resilience.breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+        @Value("${gemini.resilience.breaker.slow-call-threshold:30s}") Duration slowCallThreshold,
+        @Value("${gemini.resilience.breaker.slow-call-rate-threshold:0.8}") double slowCallRateThreshold,
+        @Value("${gemini.resilience.breaker.open-duration:30s}") Duration openDuration,
+        @Value("${gemini.resilience.breaker.half-open-calls:3}") int halfOpenCalls,
+        @Value("${gemini.resilience.retry.max-attempts:3}") int maxAttempts,
+        @Value("${gemini.resilience.retry.initial-backoff:200ms}") Duration initialBackoff,
+        @Value("${gemini.resilience.retry.max-backoff:2s}") Duration maxBackoff,
+        @Value("${gemini.http.deadline:90s}") Duration callDeadline,
+        @Value("${gemini.http.read-timeout:60s}") Duration readTimeout,
+        @Value("${gemini.resilience.retry.budget-ratio:0.1}") double budgetRatio,
+        @Value("${gemini.resilience.retry.budget-max-tokens:10}") int budgetMaxTokens,
+        @Value("${gemini.resilience.hedge.enabled:false}") boolean hedgeEnabled,
+        @Value("${gemini.resilience.hedge.min-delay:5s}") Duration hedgeMinDelay,
+        MeterRegistry meterRegistry) {
+        this.breaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+            slowCallRateThreshold, openDuration, halfOpenCalls);
+        this.slowCallThreshold = slowCallThreshold;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.callDeadline = callDeadline;
+        this.readTimeout = readTimeout;
+        this.retryBudget = new RetryBudget(budgetRatio, budgetMaxTokens);
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelay = hedgeMinDelay;
+
+        this.successTimer = callTimer("success", meterRegistry);
+        this.failureTimer = callTimer("failure", meterRegistry);
+        this.retries = meterRegistry.counter("gemini.retry");
+        this.hedges = meterRegistry.counter("gemini.hedge");
+        this.shortCircuited = meterRegistry.counter("gemini.circuit.rejected");
+        this.budgetExhausted = meterRegistry.counter("gemini.retry.budget.exhausted");
+        meterRegistry.gauge("gemini.circuit.state", breaker, b -> b.state().ordinal());
+        meterRegistry.gauge("gemini.retry.budget.tokens", retryBudget, RetryBudget::tokens);
+    }
+
+    /**
+     * 재시도와 헤지를 적용해 호출한다. 마지막 시도의 예외를 그대로 던진다.
+     */
+    public String call(CancellableCall call) {
+        retryBudget.deposit();
+        long deadlineNanos = System.nanoTime() + callDeadline.toNanos();
+        GeminiApiException last = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw GeminiApiException.cancelled(last);
+            }
+            if (attempt > 1) {
+                Duration backoff = backoff(attempt);
+                // 응답을 한 번 기다릴 시간도 남지 않으면 다시 보내 봐야 마감 시간에 끊기므로 예산을 쓰지 않고 멈춘다.
+                if (remaining(deadlineNanos).minus(backoff).compareTo(readTimeout) < 0) {
+                    log.warn("Gemini 호출 마감 시간({})이 얼마 남지 않아 재시도하지 않습니다.", callDeadline);
+                    break;
+                }
+                if (!retryBudget.tryWithdraw()) {
+                    budgetExhausted.increment();
+                    break;
+                }
+                retries.increment();
+                sleep(backoff);
+            }
+            try {
+                return attempt(call, deadlineNanos);
+            } catch (GeminiApiException e) {
+                if (e.isCancelled() || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                last = e;
+                if (!e.isRetryable()) {
+                    throw e;
+                }
+                log.warn("Gemini 호출 실패 ({}/{}): {}", attempt, maxAttempts, e.getMessage());
+            }
+        }
+        throw last;
+    }
+
+    /**
+     * 재시도 없이 브레이커만 적용해 한 번 호출한다. 스트리밍처럼 중간부터 다시 시작할 수 없는 호출에 쓴다.
+     * 스트림은 응답 길이만큼 오래 걸리므로 느린 호출로 세지 않는다.
+     */
+    public <T> T callOnce(Supplier<T> call) {
+        acquire();
+        try {
+            T result = call.get();
+            breaker.record(false, false);
+            return result;
+        } catch (GeminiApiException e) {
+            if (e.isCancelled()) {
+                breaker.release();
+            } else {
+                breaker.record(e.isUpstreamFailure(), false);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            breaker.record(false, false); // 호출 측(클라이언트 연결 끊김 등) 문제
+            throw e;
+        }
+    }
+
+    @Override
+    public Health health() {
+        // 브레이커가 열려도 이 애플리케이션 자체는 정상이므로 상태는 UP으로 두고 세부 정보만 보여준다.
+        return Health.up()
+            .withDetail("circuit", breaker.state())
+            .withDetail("failureRate", breaker.failureRate())
+            .withDetail("slowCallRate", breaker.slowCallRate())
+            .withDetail("retryBudgetTokens", retryBudget.tokens())
+            .withDetail("p95", latencyPercentile(0.95))
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    private String attempt(CancellableCall call, long deadlineNanos) {
+        acquire();
+        Duration hedgeDelay = hedgeDelay();
+        if (hedgeDelay == null) {
+            return measured(call, cancel -> {
+            }, new AtomicBoolean(), deadlineNanos);
+        }
+        return hedged(call, hedgeDelay, deadlineNanos);
+    }
+
+    private void acquire() {
+        if (!breaker.tryAcquire()) {
+            shortCircuited.increment();
+            throw new GeminiUnavailableException(breaker.remainingOpen());
+        }
+    }
+
+    // 실제 요청 한 건의 지연과 결과를 타이머와 브레이커에 기록한다. 헤지에서 끊겼거나 호출 측이 취소한 요청은 기록하지 않는다.
+    private String measured(CancellableCall call, Consumer<Runnable> onCancel, AtomicBoolean cancelled,
+        long deadlineNanos) {
+        long started = System.nanoTime();
+        try {
+            String result = call.call(onCancel, remaining(deadlineNanos));
+            long elapsed = System.nanoTime() - started;
+            successTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            breaker.record(false, elapsed >= slowCallThreshold.toNanos());
+            return result;
+        } catch (GeminiApiException e) {
+            if (cancelled.get() || e.isCancelled()) {
+                breaker.release();
+            } else {
+                failureTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                breaker.record(e.isUpstreamFailure(), false);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            breaker.record(false, false); // 업스트림 응답과 무관한 실패도 허용받은 호출이므로 결과를 알린다.
+            throw e;
+        }
+    }
+
+    private String hedged(CancellableCall call, Duration hedgeDelay, long deadlineNanos) {
+        CompletionService<String> completion = new ExecutorCompletionService<>(hedgeExecutor);
+        List<HedgedRequest> requests = new ArrayList<>(2);
+        requests.add(start(completion, call, deadlineNanos));
+        try {
+            Future<String> done = completion.poll(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+            if (done == null && breaker.state() == CircuitBreaker.State.CLOSED && retryBudget.tryWithdraw()) {
+                hedges.increment();
+                requests.add(start(completion, call, deadlineNanos));
+            }
+
+            GeminiApiException failure = null;
+            for (int i = 0; i < requests.size(); i++) {
+                Future<String> next = done != null ? done : completion.take();
+                done = null;
+                try {
+                    return next.get();
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof GeminiApiException apiException)) {
+                        throw new IllegalStateException("Gemini API 호출 실패", e.getCause());
+                    }
+                    failure = apiException;
+                }
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gemini API 호출 중단", e);
+        } finally {
+            // 이긴 요청은 이미 끝났으므로 취소해도 영향이 없다.
+            requests.forEach(HedgedRequest::cancel);
+        }
+    }
+
+    private HedgedRequest start(CompletionService<String> completion, CancellableCall call, long deadlineNanos) {
+        AtomicReference<Runnable> cancelAction = new AtomicReference<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Consumer<Runnable> onCancel = action -> {
+            cancelAction.set(action);
+            if (cancelled.get()) {
+                action.run(); // 요청이 시작되기 전에 이미 취소됨
+            }
+        };
+        Future<String> future = completion.submit(() -> measured(call, onCancel, cancelled, deadlineNanos));
+        return new HedgedRequest(future, cancelAction, cancelled);
+    }
+
+    private record HedgedRequest(Future<String> future, AtomicReference<Runnable> cancelAction,
+                                 AtomicBoolean cancelled) {
+
+        void cancel() {
+            if (future.isDone()) {
+                return;
+            }
+            cancelled.set(true);
+            Runnable action = cancelAction.get();
+            if (action != null) {
+                action.run();
+            }
+            future.cancel(true);
+        }
+    }
+
+    // 성공 지연 p95가 아직 없으면(기동 직후) 헤지하지 않는다.
+    private Duration hedgeDelay() {
+        if (!hedgeEnabled || breaker.state() != CircuitBreaker.State.CLOSED) {
+            return null;
+        }
+        Duration p95 = latencyPercentile(0.95);
+        if (p95.isZero()) {
+            return null;
+        }
+        return p95.compareTo(hedgeMinDelay) > 0 ? p95 : hedgeMinDelay;
+    }
+
+    private Duration latencyPercentile(double percentile) {
+        for (ValueAtPercentile value : successTimer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return Duration.ofNanos((long) value.value(TimeUnit.NANOSECONDS));
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    private static Duration remaining(long deadlineNanos) {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    // full jitter: 0 ~ min(max, initial * 2^(attempt-2))
+    private Duration backoff(int attempt) {
+        long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 2, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw GeminiApiException.cancelled(e);
+        }
+    }
+
+    private static Timer callTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("gemini.call")
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(100))
+            .maximumExpectedValue(Duration.ofMinutes(2))
+            .register(meterRegistry);
+    }
+
+    /**
+     * 요청마다 ratio 토큰을 적립하고 재시도/헤지마다 1 토큰을 쓴다. 토큰은 maxTokens까지만 쌓인다.
+     */
+    private static final class RetryBudget {
+
+        private final double ratio;
+        private final double maxTokens;
+        private double tokens;
+
+        RetryBudget(double ratio, int maxTokens) {
+            this.ratio = ratio;
+            this.maxTokens = maxTokens;
+            this.tokens = maxTokens;
+        }
+
+        synchronized void deposit() {
+            tokens = Math.min(maxTokens, tokens + ratio);
+        }
+
+        synchronized boolean tryWithdraw() {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized double tokens() {
+            return tokens;
+        }
+    }
+}
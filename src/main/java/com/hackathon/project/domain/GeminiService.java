@@ -1,52 +1,69 @@
 package com.hackathon.project.domain;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
-import java.time.LocalDate;
-import java.time.ZoneId;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import com.hackathon.project.domain.Roadmap.TermCalendar;
 import com.hackathon.project.domain.Roadmap.dto.RoadmapAiResponseDTO;
 import com.hackathon.project.domain.Roadmap.dto.RoadmapCreateRequestDTO;
+import com.hackathon.project.global.util.SingleFlight;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GeminiService {
 
-    @Value("${gemini.api-key}")
-    private String apiKey;
-
-    private static final String GEMINI_URL =
-        "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:generateContent";
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final GeminiClient geminiClient;
+    private final GeminiResilience geminiResilience;
+    private final TermCalendar termCalendar;
     private final ObjectMapper objectMapper = new ObjectMapper()
         .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    // 모델 출력은 LenientJsonFilter를 거쳐 이 매퍼로 한 번만 바인딩한다.
     private final ObjectMapper lenientObjectMapper = JsonMapper.builder()
         .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
         .enable(JsonReadFeature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
         .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
-        .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
         .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
         .build();
 
+    // 같은 프롬프트로 동시에 들어온 호출은 Gemini를 한 번만 부르고 응답 본문을 나눠 쓴다.
+    // 공유 호출은 요청 스레드와 분리된 전용 스레드에서 돌려 한 요청이 취소되어도 나머지 요청이 실패하지 않게 한다.
+    // 기다리던 요청이 모두 취소되거나 시간을 넘기면 전용 스레드를 인터럽트해 진행 중인 HTTP 요청도 끊는다.
+    private final ExecutorService sharedCallExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SingleFlight<String> inFlightCalls = new SingleFlight<>(sharedCallExecutor);
+
+    @Value("${gemini.coalesce.wait-timeout:90s}")
+    private Duration coalesceWaitTimeout;
+
+    /**
+     * 호출 실패는 {@link GeminiApiException}, 서킷 브레이커가 열려 있으면 {@link GeminiUnavailableException}을
+     * 그대로 던지고, 응답을 해석하지 못하면 IllegalStateException을 던진다.
+     */
     public RoadmapAiResponseDTO askRoadMap(RoadmapCreateRequestDTO requestDTO) {
-        String responseBody = null;
+        String responseBody = callGeminiApi(buildPrompt(requestDTO)); // HTTP 호출 결과
         try {
-            responseBody = callGeminiApi(buildPrompt(requestDTO)); // HTTP 호출 결과
             return parseRoadmapResponse(responseBody);
 
         } catch (Exception e) {
@@ -55,82 +72,146 @@ public class GeminiService {
         }
     }
 
-    private RoadmapAiResponseDTO parseRoadmapResponse(String responseBody) throws Exception {
-        JsonNode root = objectMapper.readTree(responseBody);
-        JsonNode errorNode = root.path("error");
-        if (!errorNode.isMissingNode() && !errorNode.isNull()) {
-            String message = errorNode.path("message").asText("Gemini API 오류 응답");
-            throw new IllegalStateException(message);
-        }
+    /**
+     * streamGenerateContent로 로드맵을 생성한다. 응답 텍스트가 도착하는 대로 점진 파싱해
+     * careerSummary, currentSkills, coursePlan의 각 학기 등 닫힌 구간을 sectionSink에 넘기고,
+     * 스트림이 끝나면 모은 전체 텍스트를 askRoadMap과 같은 방식으로 파싱해 돌려준다.
+     * 진행 중 호출 합치기는 적용하지 않는다(응답을 나눠 받을 수 없음).
+     */
+    public RoadmapAiResponseDTO streamRoadMap(RoadmapCreateRequestDTO requestDTO,
+        BiConsumer<String, JsonNode> sectionSink) {
+        StringBuilder rawText = new StringBuilder();
+        RoadmapSectionParser sections = new RoadmapSectionParser(lenientObjectMapper, sectionSink);
+        String requestBody = buildRequestBody(buildPrompt(requestDTO));
+        geminiResilience.callOnce(() -> {
+            streamInto(requestBody, rawText, sections);
+            return null;
+        });
 
-        JsonNode candidates = root.path("candidates");
-        if (!candidates.isArray() || candidates.isEmpty()) {
-            throw new IllegalStateException("Gemini 응답에 candidates가 없습니다.");
+        try {
+            if (rawText.isEmpty()) {
+                throw new IllegalStateException("Gemini 응답에 text가 없습니다.");
+            }
+            return bindRoadmap(rawText);
+        } catch (Exception e) {
+            log.error("Gemini 스트림 응답 파싱 실패. 응답 텍스트: {}", rawText, e);
+            throw new IllegalStateException("Gemini 응답 파싱 실패");
         }
+    }
 
-        JsonNode parts = candidates.get(0).path("content").path("parts");
-        String rawText = null;
-        if (parts.isArray()) {
-            for (JsonNode part : parts) {
-                JsonNode textNode = part.get("text");
-                if (textNode != null && !textNode.isNull()) {
-                    rawText = textNode.asText("");
-                    break;
+    private void streamInto(String requestBody, StringBuilder rawText, RoadmapSectionParser sections) {
+        geminiClient.streamGenerateContent(requestBody, data -> {
+            try (JsonParser envelope = objectMapper.getFactory().createParser(data)) {
+                if (moveToFirstText(envelope) == TextLookup.FOUND) {
+                    String text = envelope.getText();
+                    rawText.append(text);
+                    sections.feed(text);
                 }
+            } catch (IOException e) {
+                throw new IllegalStateException("Gemini 스트림 청크 파싱 실패: " + data, e);
             }
-        }
+        });
+    }
 
-        if (rawText == null || rawText.isBlank()) {
-            throw new IllegalStateException("Gemini 응답에 text가 없습니다.");
+    /**
+     * 응답 봉투를 토큰 단위로 읽어 text 값에 파서를 세우고, 그 문자 배열을 복사 없이 바로 DTO로 바인딩한다.
+     */
+    private RoadmapAiResponseDTO parseRoadmapResponse(String responseBody) throws IOException {
+        try (JsonParser envelope = objectMapper.getFactory().createParser(responseBody)) {
+            switch (moveToFirstText(envelope)) {
+                case NO_CANDIDATES -> throw new IllegalStateException("Gemini 응답에 candidates가 없습니다.");
+                case NO_TEXT -> throw new IllegalStateException("Gemini 응답에 text가 없습니다.");
+                default -> {
+                }
+            }
+            return bindRoadmap(CharBuffer.wrap(
+                envelope.getTextCharacters(), envelope.getTextOffset(), envelope.getTextLength()));
         }
+    }
 
-        String cleaned = extractJsonPayload(rawText);
-        try {
-            return objectMapper.readValue(cleaned, RoadmapAiResponseDTO.class);
-        } catch (Exception strictEx) {
-            String sanitized = sanitizeJson(cleaned);
-            return lenientObjectMapper.readValue(sanitized, RoadmapAiResponseDTO.class);
+    // 코드 펜스 제거, 따옴표/제어 문자 보정을 읽는 도중에 처리하므로 실패해도 다시 파싱하지 않는다.
+    private RoadmapAiResponseDTO bindRoadmap(CharSequence text) throws IOException {
+        try (Reader reader = LenientJsonFilter.reader(text)) {
+            return lenientObjectMapper.readValue(reader, RoadmapAiResponseDTO.class);
         }
     }
 
-    private String extractJsonPayload(String text) {
-        // 코드 펜스 제거
-        String cleaned = text.trim()
-            .replaceFirst("^```json\\s*", "")
-            .replaceFirst("^```\\s*", "");
-        if (cleaned.endsWith("```")) {
-            cleaned = cleaned.substring(0, cleaned.lastIndexOf("```")).trim();
-        }
+    private enum TextLookup {
+        NO_CANDIDATES, NO_TEXT, FOUND
+    }
 
-        // 앞뒤 불필요한 텍스트가 있을 경우 첫 중괄호부터 마지막 중괄호까지 자름
-        int start = cleaned.indexOf('{');
-        int end = cleaned.lastIndexOf('}');
-        if (start >= 0 && end >= start) {
-            return cleaned.substring(start, end + 1);
+    /**
+     * 첫 후보의 content.parts 중 처음 나오는 text 문자열 값으로 파서를 옮긴다.
+     * 스트림의 마지막 청크처럼 text가 없으면 NO_CANDIDATES 또는 NO_TEXT를 돌려준다.
+     * error 필드가 있으면 그 메시지로 예외를 던진다.
+     */
+    private static TextLookup moveToFirstText(JsonParser envelope) throws IOException {
+        if (envelope.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Gemini 응답 형식이 올바르지 않습니다.");
         }
+        for (JsonToken token = envelope.nextToken(); token == JsonToken.FIELD_NAME; token = envelope.nextToken()) {
+            String field = envelope.currentName();
+            JsonToken value = envelope.nextToken();
+            if ("error".equals(field) && value != JsonToken.VALUE_NULL) {
+                JsonNode errorNode = envelope.readValueAsTree();
+                throw new IllegalStateException(errorNode.path("message").asText("Gemini API 오류 응답"));
+            }
+            if ("candidates".equals(field) && value == JsonToken.START_ARRAY) {
+                if (envelope.nextToken() != JsonToken.START_OBJECT) {
+                    return TextLookup.NO_CANDIDATES;
+                }
+                return seekField(envelope, "content", JsonToken.START_OBJECT)
+                    && seekField(envelope, "parts", JsonToken.START_ARRAY)
+                    && seekTextPart(envelope) ? TextLookup.FOUND : TextLookup.NO_TEXT;
+            }
+            envelope.skipChildren();
+        }
+        return TextLookup.NO_CANDIDATES;
+    }
 
-        return cleaned;
+    // 객체 안에서 name 필드를 찾아 그 값(expected 토큰)으로 옮긴다. 없으면 객체 끝에서 멈춘다.
+    private static boolean seekField(JsonParser parser, String name, JsonToken expected) throws IOException {
+        for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            boolean matches = name.equals(parser.currentName());
+            if (parser.nextToken() == expected && matches) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
     }
 
-    private String sanitizeJson(String json) {
-        if (json == null) {
-            return "";
+    private static boolean seekTextPart(JsonParser parser) throws IOException {
+        for (JsonToken part = parser.nextToken(); part != null && part != JsonToken.END_ARRAY;
+            part = parser.nextToken()) {
+            if (part == JsonToken.START_OBJECT) {
+                if (seekField(parser, "text", JsonToken.VALUE_STRING)) {
+                    return true;
+                }
+            } else {
+                parser.skipChildren();
+            }
         }
-        String sanitized = json
-            .replace('\u201C', '"')
-            .replace('\u201D', '"')
-            .replace('\u2018', '\'')
-            .replace('\u2019', '\'');
-        return sanitized.replaceAll("[\\u0000-\\u001F&&[^\\r\\n\\t]]", "");
+        return false;
     }
 
     private String callGeminiApi(String prompt) {
-        try {
-            // 1. URL + API KEY
-            String url = GEMINI_URL + "?key=" + apiKey;
+        String requestBody = buildRequestBody(prompt);
+        return inFlightCalls.execute(sha256(prompt), coalesceWaitTimeout, () -> {
+            log.debug("Gemini 호출 시작 (진행 중 {}건)", inFlightCalls.inFlightCount());
+            return geminiResilience.call(
+                (onCancel, timeLimit) -> geminiClient.generateContent(requestBody, onCancel, timeLimit));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sharedCallExecutor.shutdownNow();
+    }
 
-            // 2. Request Body
-            String requestBody = objectMapper.writeValueAsString(
+    private String buildRequestBody(String prompt) {
+        try {
+            return objectMapper.writeValueAsString(
                 Map.of(
                     "contents", List.of(
                         Map.of(
@@ -144,22 +225,17 @@ public class GeminiService {
                     )
                 )
             );
-
-            // 3. HTTP Header
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> request =
-                new HttpEntity<>(requestBody, headers);
-
-            // 4. POST 요청
-            ResponseEntity<String> response =
-                restTemplate.postForEntity(url, request, String.class);
-
-            return response.getBody();
-
         } catch (Exception e) {
-            throw new IllegalStateException("Gemini API 호출 실패", e);
+            throw new IllegalStateException("Gemini 요청 본문 생성 실패", e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
@@ -167,7 +243,7 @@ public class GeminiService {
     // Prompt
     // =========================
     private String buildPrompt(RoadmapCreateRequestDTO requestDTO) {
-        String termContext = buildTermContext();
+        String termContext = termCalendar.termContext();
         return """
             너는 대학생 진로·수강 로드맵을 생성하는 시스템이다.
             아래 정보를 바탕으로 현실적이고 구체적인 로드맵을 생성하라.
@@ -357,56 +433,4 @@ public class GeminiService {
         }
         return sb.toString().trim();
     }
-
-    private String buildTermContext() {
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        int year = today.getYear();
-        int month = today.getMonthValue();
-
-        List<String> terms;
-        if (month >= 3 && month <= 4) {
-            terms = List.of(
-                "%d 1학기".formatted(year),
-                "%d 여름학기".formatted(year),
-                "%d 2학기".formatted(year),
-                "%d 겨울학기".formatted(year)
-            );
-        } else if (month >= 5 && month <= 6) {
-            terms = List.of(
-                "%d 여름학기".formatted(year),
-                "%d 2학기".formatted(year),
-                "%d 겨울학기".formatted(year),
-                "%d 1학기".formatted(year + 1)
-            );
-        } else if (month >= 7 && month <= 8) {
-            terms = List.of(
-                "%d 2학기".formatted(year),
-                "%d 겨울학기".formatted(year),
-                "%d 1학기".formatted(year + 1),
-                "%d 여름학기".formatted(year + 1)
-            );
-        } else if (month >= 9) {
-            terms = List.of(
-                "%d 겨울학기".formatted(year + 1),
-                "%d 1학기".formatted(year + 1),
-                "%d 여름학기".formatted(year + 1),
-                "%d 2학기".formatted(year + 1)
-            );
-        } else {
-            terms = List.of(
-                "%d 1학기".formatted(year),
-                "%d 여름학기".formatted(year),
-                "%d 2학기".formatted(year),
-                "%d 겨울학기".formatted(year)
-            );
-        }
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("- 오늘 날짜: ").append(today).append('\n');
-        sb.append("- 다음 학기 순서:\n");
-        for (String term : terms) {
-            sb.append("  - ").append(term).append('\n');
-        }
-        return sb.toString().trim();
-    }
 }
@@ -0,0 +1,20 @@
+package com.hackathon.project.domain;
+
+import java.time.Duration;
+
+/**
+ * Gemini 서킷 브레이커가 열려 있어 호출하지 않고 바로 실패할 때 던진다.
+ */
+public class GeminiUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public GeminiUnavailableException(Duration retryAfter) {
+        super("Gemini API 일시 차단 중(서킷 브레이커 열림)");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
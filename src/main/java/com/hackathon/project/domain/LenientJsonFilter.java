@@ -0,0 +1,174 @@
+package com.hackathon.project.domain;
+
+import java.io.Reader;
+
+/**
+ * 모델이 만든 JSON 텍스트를 한 글자씩 보며 Jackson이 읽을 수 있는 형태로 바꾸는 상태 기계.
+ * <ul>
+ *   <li>첫 '{' 전의 코드 펜스나 설명 문장은 버리고, 루트 객체가 닫힌 뒤의 텍스트도 버린다.</li>
+ *   <li>문자열 밖의 “ ” ‘ ’, ' 는 문자열 구분자로 보고 "로 바꾼다. 문자열 안의 따옴표는 내용으로 둔다.</li>
+ *   <li>\r \n \t 외의 제어 문자는 버린다.</li>
+ * </ul>
+ * 문자열 안팎을 구분하므로 정상 JSON의 문자열 값에 들어 있는 둥근 따옴표는 바뀌지 않는다.
+ * 상태를 가지므로 스트림 청크를 순서대로 넘겨도 한 번에 넘긴 것과 결과가 같다.
+ */
+final class LenientJsonFilter {
+
+    private static final char NONE = 0;
+    private static final char SMART_DOUBLE = '“';
+    private static final char SMART_SINGLE = '‘';
+
+    private boolean started;
+    private boolean finished;
+    private int depth;
+    private char quote = NONE; // 현재 문자열을 연 따옴표 종류, 문자열 밖이면 NONE
+    private boolean escaped;
+
+    // 한 글자 입력에 대한 출력은 최대 두 글자(\")다.
+    private final char[] out = new char[2];
+    private int outLength;
+
+    /**
+     * 텍스트 전체를 한 번만 훑는 Reader. 원본을 복사하지 않고 읽는 만큼만 변환한다.
+     */
+    static Reader reader(CharSequence text) {
+        return new FilteringReader(text);
+    }
+
+    /**
+     * 스트림 청크 하나를 변환한다. 루트 객체가 닫힌 뒤에는 빈 문자열을 돌려준다.
+     */
+    String apply(CharSequence chunk) {
+        StringBuilder sb = new StringBuilder(chunk.length());
+        for (int i = 0; i < chunk.length() && !finished; i++) {
+            int n = filter(chunk.charAt(i));
+            sb.append(out, 0, n);
+        }
+        return sb.toString();
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    private int filter(char c) {
+        outLength = 0;
+        if (finished) {
+            return 0;
+        }
+        if (!started) {
+            if (c != '{') {
+                return 0;
+            }
+            started = true;
+        }
+
+        if (quote != NONE) {
+            inString(c);
+        } else {
+            outsideString(c);
+        }
+        return outLength;
+    }
+
+    private void inString(char c) {
+        if (escaped) {
+            escaped = false;
+            emit(c);
+        } else if (c == '\\') {
+            escaped = true;
+            emit(c);
+        } else if (closes(c)) {
+            quote = NONE;
+            emit('"');
+        } else if (c == '"') {
+            // "가 아닌 따옴표로 연 문자열 안의 "는 이스케이프한다.
+            emit('\\');
+            emit('"');
+        } else if (!isDroppedControl(c)) {
+            emit(c);
+        }
+    }
+
+    private void outsideString(char c) {
+        switch (c) {
+            case '"', '\'' -> openString(c);
+            case '“', '”' -> openString(SMART_DOUBLE);
+            case '‘', '’' -> openString(SMART_SINGLE);
+            case '{', '[' -> {
+                depth++;
+                emit(c);
+            }
+            case '}', ']' -> {
+                depth--;
+                emit(c);
+                if (depth == 0) {
+                    finished = true;
+                }
+            }
+            default -> {
+                if (!isDroppedControl(c)) {
+                    emit(c);
+                }
+            }
+        }
+    }
+
+    private void openString(char opening) {
+        quote = opening;
+        emit('"');
+    }
+
+    private boolean closes(char c) {
+        return switch (quote) {
+            case SMART_DOUBLE -> c == '“' || c == '”';
+            case SMART_SINGLE -> c == '‘' || c == '’';
+            default -> c == quote;
+        };
+    }
+
+    private static boolean isDroppedControl(char c) {
+        return c < 0x20 && c != '\r' && c != '\n' && c != '\t';
+    }
+
+    private void emit(char c) {
+        out[outLength++] = c;
+    }
+
+    private static final class FilteringReader extends Reader {
+
+        private final CharSequence text;
+        private final LenientJsonFilter filter = new LenientJsonFilter();
+        private int position;
+        private int pendingStart; // 이전 read에서 다 못 넘긴 filter.out 구간
+        private int pendingEnd;
+
+        FilteringReader(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int written = 0;
+            while (written < length) {
+                if (pendingStart < pendingEnd) {
+                    buffer[offset + written++] = filter.out[pendingStart++];
+                    continue;
+                }
+                if (position >= text.length() || filter.isFinished()) {
+                    break;
+                }
+                pendingStart = 0;
+                pendingEnd = filter.filter(text.charAt(position++));
+            }
+            return written == 0 ? -1 : written;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.hackathon.project.domain.Roadmap;
 
-import com.hackathon.project.domain.Roadmap.dto.ExcelParseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hackathon.project.domain.Roadmap.dto.ExcelParseResponseDTO;
 import com.hackathon.project.domain.Roadmap.dto.RoadmapAiResponseDTO;
 import com.hackathon.project.domain.Roadmap.dto.RoadmapCreateRequestDTO;
 import com.hackathon.project.domain.Roadmap.dto.WeightHintRequestDTO;
 import com.hackathon.project.domain.Roadmap.dto.WeightHintResponseDTO;
 import com.hackathon.project.global.dto.ApiResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +31,11 @@ public class RoadmapController {
 
     private final RoadmapService roadmapService;
     private final WeightHintService weightHintService;
+    private final TranscriptParseCache transcriptParseCache;
+    private final TranscriptParseAdmission transcriptParseAdmission;
+    private final TranscriptMergeService transcriptMergeService;
+    private final RoadmapResponseCache roadmapResponseCache;
+    private final ObjectMapper objectMapper;
 
     @PostMapping(
         value = "/parse-excel",
@@ -32,22 +43,88 @@ public class RoadmapController {
         produces = "application/json"
     )
     public ResponseEntity<ApiResponse<ExcelParseResponseDTO>> uploadExcel(
-        @RequestParam("file") MultipartFile file) {
-        List<ExcelParseDTO> excelParseDTOS = roadmapService.parse(file);
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(value = "summaryOnly", defaultValue = "false") boolean summaryOnly) {
+        boolean includeCourses = !summaryOnly;
+        ExcelParseResponseDTO response;
+        try (SpooledTranscript transcript = SpooledTranscript.spool(file)) {
+            response = transcriptParseCache.get(transcript.digest(), includeCourses,
+                () -> transcriptParseAdmission.admit(() -> roadmapService.summarize(transcript, includeCourses)));
+        }
         return ResponseEntity.ok()
             .contentType(MediaType.APPLICATION_JSON)
-            .body(ApiResponse.success(roadmapService.convertExcelParseResponseDTO(excelParseDTOS)));
+            .body(ApiResponse.success(response));
+    }
+
+    @PostMapping(
+        value = "/parse-excel/multi",
+        consumes = "multipart/form-data",
+        produces = "application/json"
+    )
+    public ResponseEntity<ApiResponse<ExcelParseResponseDTO>> uploadExcels(
+        @RequestParam("files") List<MultipartFile> files,
+        @RequestParam(value = "summaryOnly", defaultValue = "false") boolean summaryOnly) {
+        ExcelParseResponseDTO response = transcriptMergeService.parseAll(files, !summaryOnly);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.success(response));
     }
 
     @PostMapping("/generate-roadmap")
     public ResponseEntity<ApiResponse<RoadmapAiResponseDTO>> generateRoadmap(
         @RequestBody RoadmapCreateRequestDTO requestDTO) {
-        RoadmapAiResponseDTO roadmap = roadmapService.generateRoadmap(requestDTO);
+        RoadmapAiResponseDTO roadmap =
+            roadmapResponseCache.get(requestDTO, () -> roadmapService.generateRoadmap(requestDTO));
         return ResponseEntity.ok()
             .contentType(MediaType.APPLICATION_JSON)
             .body(ApiResponse.success(roadmap));
     }
 
+    /**
+     * 로드맵을 SSE(text/event-stream)로 보낸다. 이벤트 이름은 구간 이름이고 data는 그 구간의 JSON이다.
+     * weightHints, subjectRecommendations가 먼저 가고, Gemini 응답의 각 구간이 완성되는 대로 이어지며,
+     * 마지막 roadmap 이벤트가 /generate-roadmap 응답과 같은 최종 결과다. 실패하면 error 이벤트로 끝난다.
+     * 캐시에 있으면 weightHints, subjectRecommendations, roadmap만 바로 보낸다.
+     */
+    @PostMapping(value = "/generate-roadmap/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRoadmap(
+        @RequestBody RoadmapCreateRequestDTO requestDTO) {
+        StreamingResponseBody body = out -> {
+            AtomicBoolean streamed = new AtomicBoolean();
+            try {
+                RoadmapAiResponseDTO roadmap = roadmapResponseCache.get(requestDTO, () -> {
+                    streamed.set(true);
+                    return roadmapService.streamRoadmap(requestDTO, (name, value) -> writeEvent(out, name, value));
+                });
+                if (!streamed.get()) {
+                    writeEvent(out, "weightHints", roadmap.getWeightHints());
+                    writeEvent(out, "subjectRecommendations", roadmap.getSubjectRecommendations());
+                    writeEvent(out, "roadmap", roadmap);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // 클라이언트 연결 끊김
+            } catch (RuntimeException e) {
+                writeEvent(out, "error", ApiResponse.failure());
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_EVENT_STREAM)
+            .header("Cache-Control", "no-cache")
+            .header("X-Accel-Buffering", "no") // 프록시가 이벤트를 모아 보내지 않도록
+            .body(body);
+    }
+
+    private void writeEvent(OutputStream out, String name, Object data) {
+        try {
+            String frame = "event: " + name + "\ndata: " + objectMapper.writeValueAsString(data) + "\n\n";
+            out.write(frame.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @PostMapping("/weight-hints")
     public ResponseEntity<ApiResponse<WeightHintResponseDTO>> weightHints(
         @RequestBody WeightHintRequestDTO requestDTO) {
@@ -0,0 +1,68 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.domain.Roadmap.dto.RoadmapCreateRequestDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapJobResponseDTO;
+import com.hackathon.project.global.dto.ApiResponse;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/roadmap-jobs")
+public class RoadmapJobController {
+
+    private static final long MAX_WAIT_SECONDS = 30;
+
+    private final RoadmapJobService roadmapJobService;
+
+    /**
+     * 로드맵 생성 작업을 대기열에 넣고 202와 작업 상태(jobId, 대기 순번)를 바로 돌려준다.
+     * 대기열이 가득 차면 503으로 거절한다.
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<RoadmapJobResponseDTO>> submit(
+        @RequestBody RoadmapCreateRequestDTO requestDTO) {
+        RoadmapJobResponseDTO job = roadmapJobService.submit(requestDTO);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/roadmap-jobs/" + job.getJobId()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.success(job));
+    }
+
+    /**
+     * 작업 상태를 조회한다. waitSeconds(최대 30초)를 주면 작업이 끝나거나 시간이 다 될 때까지
+     * 서블릿 스레드를 놓은 채 기다렸다가 응답한다(롱 폴링).
+     */
+    @GetMapping("/{jobId}")
+    public DeferredResult<ResponseEntity<ApiResponse<RoadmapJobResponseDTO>>> status(
+        @PathVariable String jobId,
+        @RequestParam(value = "waitSeconds", defaultValue = "0") long waitSeconds) {
+        ResponseEntity<ApiResponse<RoadmapJobResponseDTO>> current = toResponse(roadmapJobService.status(jobId));
+        long wait = Math.clamp(waitSeconds, 0, MAX_WAIT_SECONDS);
+        DeferredResult<ResponseEntity<ApiResponse<RoadmapJobResponseDTO>>> result =
+            new DeferredResult<>(TimeUnit.SECONDS.toMillis(wait), () -> toResponse(roadmapJobService.status(jobId)));
+        if (wait == 0 || current.getBody().getData().getFinishedAt() != null) {
+            result.setResult(current);
+        } else {
+            roadmapJobService.whenFinished(jobId, () -> result.setResult(toResponse(roadmapJobService.status(jobId))));
+        }
+        return result;
+    }
+
+    private static ResponseEntity<ApiResponse<RoadmapJobResponseDTO>> toResponse(RoadmapJobResponseDTO job) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.success(job));
+    }
+}
@@ -0,0 +1,11 @@
+package com.hackathon.project.domain.Roadmap;
+
+/**
+ * 없는 작업이거나 결과 보관 기한이 지나 지워진 작업을 조회할 때 던진다.
+ */
+public class RoadmapJobNotFoundException extends RuntimeException {
+
+    public RoadmapJobNotFoundException(String jobId) {
+        super("로드맵 작업을 찾을 수 없습니다: " + jobId);
+    }
+}
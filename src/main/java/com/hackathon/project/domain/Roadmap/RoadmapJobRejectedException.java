@@ -0,0 +1,11 @@
+package com.hackathon.project.domain.Roadmap;
+
+/**
+ * 로드맵 작업 대기열이 가득 차 새 작업을 받지 않을 때 던진다.
+ */
+public class RoadmapJobRejectedException extends RuntimeException {
+
+    public RoadmapJobRejectedException(String message) {
+        super(message);
+    }
+}
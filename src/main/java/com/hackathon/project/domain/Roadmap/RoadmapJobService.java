@@ -0,0 +1,201 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.domain.GeminiApiException;
+import com.hackathon.project.domain.GeminiUnavailableException;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapAiResponseDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapCreateRequestDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapJobResponseDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapJobResponseDTO.ErrorCode;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapJobResponseDTO.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로드맵 생성을 작업 단위로 받아 전용 고정 크기 풀에서 실행한다.
+ * 요청 스레드는 작업 ID만 받고 바로 반환되므로 Gemini 응답을 기다리는 동안 서블릿 스레드를 잡지 않는다.
+ * 대기열(queue-capacity)이 가득 차면 {@link RoadmapJobRejectedException}으로 즉시 거절하고,
+ * 끝난 작업은 result-ttl 동안만 보관한다. 만료된 작업은 조회 시와 purge-interval마다 지운다.
+ * 실패한 작업의 예외 내용(업스트림 응답 본문 등)은 로그에만 남기고, 응답에는 고정된 오류 코드와 문구만 담는다.
+ */
+@Slf4j
+@Service
+public class RoadmapJobService {
+
+    private final RoadmapService roadmapService;
+    private final RoadmapResponseCache roadmapResponseCache;
+    private final Duration resultTtl;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Counter rejected;
+
+    public RoadmapJobService(
+        RoadmapService roadmapService,
+        RoadmapResponseCache roadmapResponseCache,
+        @Value("${roadmap.job.workers:8}") int workers,
+        @Value("${roadmap.job.queue-capacity:100}") int queueCapacity,
+        @Value("${roadmap.job.result-ttl:10m}") Duration resultTtl,
+        MeterRegistry meterRegistry) {
+        this.roadmapService = roadmapService;
+        this.roadmapResponseCache = roadmapResponseCache;
+        this.resultTtl = resultTtl;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "roadmap-job-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.rejected = meterRegistry.counter("roadmap.job.rejected");
+        meterRegistry.gauge("roadmap.job.queued", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge("roadmap.job.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    public RoadmapJobResponseDTO submit(RoadmapCreateRequestDTO requestDTO) {
+        Job job = new Job(UUID.randomUUID().toString(), requestDTO);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            rejected.increment();
+            throw new RoadmapJobRejectedException("로드맵 작업 대기열이 가득 찼습니다.");
+        }
+        return toResponse(job);
+    }
+
+    public RoadmapJobResponseDTO status(String jobId) {
+        return toResponse(find(jobId));
+    }
+
+    /**
+     * 작업이 끝나면(이미 끝났으면 바로) callback을 실행한다. 롱 폴링 응답에 쓴다.
+     */
+    public void whenFinished(String jobId, Runnable callback) {
+        find(jobId).done.thenRun(callback);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${roadmap.job.purge-interval:1m}")
+    void purgeExpired() {
+        Instant now = Instant.now();
+        jobs.values().removeIf(job -> job.isExpired(now));
+    }
+
+    int jobCount() {
+        return jobs.size();
+    }
+
+    private Job find(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job != null && job.isExpired(Instant.now())) {
+            jobs.remove(jobId, job);
+            job = null;
+        }
+        if (job == null) {
+            throw new RoadmapJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    private RoadmapJobResponseDTO toResponse(Job job) {
+        Status status = job.status;
+        return RoadmapJobResponseDTO.builder()
+            .jobId(job.id)
+            .status(status)
+            .queuePosition(status == Status.QUEUED ? queuePosition(job) : null)
+            .submittedAt(job.submittedAt)
+            .startedAt(job.startedAt)
+            .finishedAt(job.finishedAt)
+            .expiresAt(job.finishedAt == null ? null : job.finishedAt.plus(resultTtl))
+            .roadmap(job.roadmap)
+            .errorCode(job.errorCode)
+            .error(job.errorCode == null ? null : job.errorCode.getMessage())
+            .build();
+    }
+
+    private static ErrorCode errorCodeOf(RuntimeException e) {
+        if (e instanceof GeminiUnavailableException) {
+            return ErrorCode.AI_UNAVAILABLE;
+        }
+        if (e instanceof GeminiApiException) {
+            return ErrorCode.AI_FAILED;
+        }
+        return ErrorCode.INTERNAL_ERROR;
+    }
+
+    // 실행기 대기열은 FIFO이므로 앞에 있는 작업 수 + 1이 순번이다.
+    private Integer queuePosition(Job job) {
+        int position = 1;
+        for (Runnable queued : executor.getQueue()) {
+            if (queued == job) {
+                return position;
+            }
+            position++;
+        }
+        return null; // 조회하는 사이 실행이 시작됨
+    }
+
+    private final class Job implements Runnable {
+
+        private final String id;
+        private final RoadmapCreateRequestDTO requestDTO;
+        private final Instant submittedAt = Instant.now();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private volatile Status status = Status.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile RoadmapAiResponseDTO roadmap;
+        private volatile ErrorCode errorCode;
+
+        Job(String id, RoadmapCreateRequestDTO requestDTO) {
+            this.id = id;
+            this.requestDTO = requestDTO;
+        }
+
+        @Override
+        public void run() {
+            startedAt = Instant.now();
+            status = Status.RUNNING;
+            Status outcome = Status.FAILED;
+            try {
+                roadmap = roadmapResponseCache.get(requestDTO, () -> roadmapService.generateRoadmap(requestDTO));
+                outcome = Status.SUCCEEDED;
+            } catch (RuntimeException e) {
+                errorCode = errorCodeOf(e);
+                log.warn("로드맵 작업 실패: {} ({})", id, errorCode, e);
+            } finally {
+                // 상태를 마지막에 바꿔야 조회 시 결과와 완료 시각이 함께 보인다.
+                finishedAt = Instant.now();
+                status = outcome;
+                done.complete(null);
+            }
+        }
+
+        boolean isExpired(Instant now) {
+            Instant finished = finishedAt;
+            return finished != null && !now.isBefore(finished.plus(resultTtl));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.domain.Roadmap.TermCalendar.TermWindow;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapAiResponseDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapCreateRequestDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화한 로드맵 요청 기준 응답 캐시.
+ * 키는 진로 문장(공백/대소문자 정규화), 이수 학수번호 집합, 반올림한 GPA/학점, 현재 학기 구간의 SHA-256이다.
+ * 항목은 TTL 또는 학기 구간이 바뀌는 시점 중 먼저 오는 때에 만료되고, 항목 수 상한을 넘으면 LRU로 버린다.
+ * 적중/실패 횟수는 roadmap.cache 메트릭(result=hit|miss)으로 노출한다.
+ */
+@Component
+public class RoadmapResponseCache {
+
+    private final Duration ttl;
+    private final TermCalendar termCalendar;
+    private final Map<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RoadmapResponseCache(
+        @Value("${roadmap.cache.max-entries:500}") int maxEntries,
+        @Value("${roadmap.cache.ttl:6h}") Duration ttl,
+        TermCalendar termCalendar,
+        MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.termCalendar = termCalendar;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = Counter.builder("roadmap.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("roadmap.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("roadmap.cache.size", this, RoadmapResponseCache::size);
+    }
+
+    public RoadmapAiResponseDTO get(RoadmapCreateRequestDTO requestDTO, Supplier<RoadmapAiResponseDTO> loader) {
+        TermWindow window = termCalendar.current();
+        String key = canonicalKey(requestDTO, window);
+        Instant now = Instant.now();
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                if (now.isBefore(cached.expiresAt())) {
+                    hits.increment();
+                    return cached.response();
+                }
+                entries.remove(key);
+            }
+        }
+
+        misses.increment();
+        // Gemini 호출은 락 밖에서 수행한다.
+        RoadmapAiResponseDTO loaded = loader.get();
+        if (loaded.isDegraded()) {
+            return loaded; // 간이 로드맵은 다음 요청에서 Gemini를 다시 시도하도록 저장하지 않는다.
+        }
+        Instant expiresAt = Instant.now().plus(ttl);
+        if (expiresAt.isAfter(window.nextChangeInstant())) {
+            expiresAt = window.nextChangeInstant();
+        }
+        synchronized (this) {
+            entries.put(key, new Entry(loaded, expiresAt));
+        }
+        return loaded;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    static String canonicalKey(RoadmapCreateRequestDTO requestDTO, TermWindow window) {
+        StringBuilder canonical = new StringBuilder();
+        canonical.append(normalizeCareerGoal(requestDTO.getCareerGoal())).append('\n');
+
+        RoadmapCreateRequestDTO.Transcript transcript = requestDTO.getTranscript();
+        if (transcript != null) {
+            // 프롬프트에 들어가는 정밀도(GPA 소수 둘째 자리, 학점 첫째 자리)로 맞춘다.
+            canonical.append("%.2f|%.1f|%d".formatted(
+                transcript.getAverageGPA(), transcript.getTotalCredits(), transcript.getTotalMajorCredits()));
+            canonical.append('\n').append(String.join(",", completedCodes(transcript.getCourses())));
+        }
+        canonical.append('\n').append(String.join(",", window.terms()));
+        return sha256(canonical.toString());
+    }
+
+    private static String normalizeCareerGoal(String careerGoal) {
+        if (careerGoal == null) {
+            return "";
+        }
+        return Normalizer.normalize(careerGoal, Normalizer.Form.NFC)
+            .trim()
+            .replaceAll("\\s+", " ")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private static TreeSet<String> completedCodes(List<RoadmapCreateRequestDTO.Course> courses) {
+        TreeSet<String> codes = new TreeSet<>();
+        if (courses == null) {
+            return codes;
+        }
+        courses.stream()
+            .filter(Objects::nonNull)
+            .map(RoadmapCreateRequestDTO.Course::getCourseCode)
+            .filter(code -> code != null && !code.isBlank())
+            .map(String::trim)
+            .forEach(codes::add);
+        return codes;
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(RoadmapAiResponseDTO response, Instant expiresAt) {
+    }
+}
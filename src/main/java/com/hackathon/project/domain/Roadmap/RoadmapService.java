@@ -1,6 +1,7 @@
 package com.hackathon.project.domain.Roadmap;
 
 import com.hackathon.project.domain.GeminiService;
+import com.hackathon.project.domain.Roadmap.TermCalendar.TermWindow;
 import com.hackathon.project.domain.Roadmap.dto.ExcelParseDTO;
 import com.hackathon.project.domain.Roadmap.dto.ExcelParseResponseDTO;
 import com.hackathon.project.domain.Roadmap.dto.RoadmapAiResponseDTO;
@@ -11,24 +12,33 @@ import com.hackathon.project.domain.Subject.dto.SubjectScoreRequestDTO;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.ScoredSubject;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.SubjectSummary;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
-import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoadmapService {
@@ -36,109 +46,256 @@ public class RoadmapService {
     private final GeminiService geminiService;
     private final SubjectRecommendationService subjectRecommendationService;
     private final WeightHintService weightHintService;
+    private final TermCalendar termCalendar;
+
+    // 요청마다 Gemini 호출과 로컬 추천 계산을 나눠 실행하는 가상 스레드. 차단 I/O 중에도 인터럽트로 취소된다.
+    private final ExecutorService fanOutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${roadmap.degraded.enabled:true}")
+    private boolean degradedEnabled;
+
+    @Value("${roadmap.degraded.deadline:30s}")
+    private Duration degradedDeadline;
 
     public List<ExcelParseDTO> parse(MultipartFile file) {
         List<ExcelParseDTO> results = new ArrayList<>();
+        parse(file, results::add);
+        return results;
+    }
 
-        try (InputStream is = file.getInputStream();
-            Workbook workbook = new XSSFWorkbook(is)) {
-
-            Sheet sheet = workbook.getSheetAt(0); // 첫 시트
-
-            // 0번째 row는 헤더라고 가정하고 1번째부터 시작
-            for (int i = 4; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) {
-                    continue;
-                }
-
-                ExcelParseDTO dto = ExcelParseDTO.builder()
-                    .completedYear(getInt(row.getCell(1)))         // 이수년도
-                    .completedSemester(getInt(row.getCell(2)))     // 이수학기
-                    .courseCode(getString(row.getCell(3)))         // 학수번호
-                    .courseName(getString(row.getCell(4)))         // 교과목명
-                    .courseType(getString(row.getCell(5)))         // 이수구분
-                    .teachingArea(getString(row.getCell(6)))       // 교직영역
-                    .selectedArea(getString(row.getCell(7)))       // 선택영역
-                    .credits(getDouble(row.getCell(8)))            // 학점
-                    .evaluationType(getString(row.getCell(9)))     // 평가방식
-                    .grade(getString(row.getCell(10)))             // 등급
-                    .gradePoint(getDouble(row.getCell(11)))        // 평점
-                    .departmentCode(getString(row.getCell(12)))    // 개설학과코드
-                    .build();
-
-                results.add(dto);
-            }
+    /**
+     * 성적표 첫 시트의 데이터 행(5행부터)을 읽는 즉시 consumer에 넘긴다.
+     * 업로드를 임시 파일로 옮긴 뒤 파일 기반으로 열고 시트를 SAX 이벤트로 읽으므로,
+     * zip 패키지와 워크북 어느 쪽도 메모리에 통째로 올리지 않는다.
+     */
+    public void parse(MultipartFile file, Consumer<ExcelParseDTO> consumer) {
+        try (SpooledTranscript transcript = SpooledTranscript.spool(file)) {
+            parse(transcript, consumer);
+        }
+    }
 
+    void parse(SpooledTranscript transcript, Consumer<ExcelParseDTO> consumer) {
+        try {
+            TranscriptSheetParser.parse(transcript.file(), consumer);
         } catch (IOException e) {
             throw new RuntimeException("엑셀 파싱 실패", e);
         }
+    }
 
-        return results;
+    /**
+     * Gemini 로드맵 생성은 가상 스레드에서, 로컬 추천(가중치 힌트, 과목 점수)은 호출 스레드에서 동시에 실행하고,
+     * 둘 다 끝나면 추천 과목으로 수강 계획을 채운다.
+     * 간이 모드가 켜져 있으면 Gemini가 degraded.deadline 안에 답하지 않거나 실패했을 때(서킷 브레이커 열림 포함)
+     * 기다리지 않고 로컬 추천만으로 만든 로드맵(degraded=true)을 돌려준다.
+     * 로컬 추천이 실패하면 Gemini 호출을 취소하고 그 예외를 그대로 던진다.
+     */
+    public RoadmapAiResponseDTO generateRoadmap(RoadmapCreateRequestDTO requestDTO) {
+        long deadline = System.nanoTime() + degradedDeadline.toNanos();
+        Future<RoadmapAiResponseDTO> roadmapTask = fanOutExecutor.submit(() -> geminiService.askRoadMap(requestDTO));
+        LocalRecommendation local;
+        try {
+            local = recommendLocally(requestDTO);
+        } catch (RuntimeException e) {
+            roadmapTask.cancel(true);
+            throw e;
+        }
+
+        RoadmapAiResponseDTO roadmap = awaitRoadmap(roadmapTask, deadline);
+        if (roadmap == null) {
+            return buildDegradedRoadmap(requestDTO, local);
+        }
+        applyLocal(roadmap, local);
+        return roadmap;
     }
 
-    private String getString(Cell cell) {
-        if (cell == null) {
-            return null;
+    /**
+     * 로드맵을 구간별로 sink에 넘기며 생성한다. 순서는 다음과 같다.
+     * <ol>
+     *   <li>weightHints, subjectRecommendations: 로컬 계산이 끝나는 즉시</li>
+     *   <li>careerSummary, currentSkills, coursePlan(학기 하나씩) 등: Gemini 스트림에서 해당 구간이 닫힐 때마다</li>
+     *   <li>roadmap: 추천 과목으로 수강 계획을 채운 최종 결과(generateRoadmap 응답과 같음).
+     *       Gemini 스트림이 실패하면 간이 로드맵</li>
+     * </ol>
+     * Gemini 스트림은 로컬 계산과 동시에 가상 스레드에서 시작하고, 그동안 도착한 구간은 큐에 쌓였다가
+     * 로컬 결과를 보낸 뒤 순서대로 넘긴다. sink는 호출 스레드에서만 불린다.
+     * 간이 모드면 진입 시점부터 degraded.deadline 안에 스트림이 끝나지 않을 때 스트림을 끊고 간이 로드맵으로 마무리한다.
+     */
+    public RoadmapAiResponseDTO streamRoadmap(RoadmapCreateRequestDTO requestDTO, BiConsumer<String, Object> sink) {
+        long deadline = System.nanoTime() + degradedDeadline.toNanos();
+        BlockingQueue<Section> sections = new LinkedBlockingQueue<>();
+        Future<RoadmapAiResponseDTO> roadmapTask = fanOutExecutor.submit(() -> {
+            try {
+                return geminiService.streamRoadMap(requestDTO,
+                    (name, value) -> sections.add(new Section(name, value)));
+            } finally {
+                sections.add(Section.END);
+            }
+        });
+
+        try {
+            LocalRecommendation local = recommendLocally(requestDTO);
+            sink.accept("weightHints", local.weightHints());
+            sink.accept("subjectRecommendations", local.subjectRecommendations());
+
+            Section section = nextSection(sections, deadline);
+            for (; section != null && section != Section.END; section = nextSection(sections, deadline)) {
+                sink.accept(section.name(), section.value());
+            }
+            RoadmapAiResponseDTO roadmap = null;
+            if (section == null) {
+                roadmapTask.cancel(true);
+                log.warn("Gemini 스트림이 {} 안에 끝나지 않아 간이 로드맵으로 마무리합니다.", degradedDeadline);
+            } else {
+                // END 직후 작업도 끝나므로 사실상 기다리지 않는다. 남은 마감 대신 새 마감을 줘야 END와 작업 완료 사이의
+                // 짧은 틈에 시간 초과로 처리되지 않는다. 실패했다면 간이 모드에서는 간이 로드맵으로 마무리한다.
+                roadmap = awaitRoadmap(roadmapTask, System.nanoTime() + degradedDeadline.toNanos());
+            }
+            if (roadmap == null) {
+                roadmap = buildDegradedRoadmap(requestDTO, local);
+            } else {
+                applyLocal(roadmap, local);
+            }
+            sink.accept("roadmap", roadmap);
+            return roadmap;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("로드맵 생성 중단", e);
+        } finally {
+            // 클라이언트 연결이 끊기는 등 sink가 실패하면 Gemini 스트림도 끊는다.
+            roadmapTask.cancel(true);
         }
+    }
 
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue().trim();
-            case NUMERIC -> String.valueOf(cell.getNumericCellValue());
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case FORMULA -> cell.getCellFormula();
-            default -> null;
-        };
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
     }
 
-    private double getDouble(Cell cell) {
-        if (cell == null) {
-            return 0.0;
+    // 간이 모드면 마감 시각까지만 기다리고, 시간 초과 시 null을 돌려준다.
+    private Section nextSection(BlockingQueue<Section> sections, long deadlineNanos) throws InterruptedException {
+        if (!degradedEnabled) {
+            return sections.take();
         }
+        return sections.poll(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
 
-        return switch (cell.getCellType()) {
-            case NUMERIC -> cell.getNumericCellValue();
-            case STRING -> {
-                String value = cell.getStringCellValue().trim();
-                yield value.isEmpty() ? 0.0 : Double.parseDouble(value);
+    /**
+     * 간이 모드면 마감 시각까지만 기다리고, 시간 초과나 실패 시 null을 돌려준다.
+     * 시간 초과하면 작업을 인터럽트해 GeminiService의 공유 호출 대기를 끊는다. 같은 프롬프트를 기다리는
+     * 다른 요청이 없으면 공유 호출도 취소되어 HTTP 요청이 끊기고 커넥션이 풀로 돌아간다.
+     */
+    private RoadmapAiResponseDTO awaitRoadmap(Future<RoadmapAiResponseDTO> roadmapTask, long deadlineNanos) {
+        try {
+            if (!degradedEnabled) {
+                return roadmapTask.get();
+            }
+            return roadmapTask.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            roadmapTask.cancel(true);
+            log.warn("Gemini 응답이 {} 안에 오지 않아 간이 로드맵으로 응답합니다.", degradedDeadline);
+            return null;
+        } catch (ExecutionException e) {
+            if (degradedEnabled) {
+                log.warn("Gemini 로드맵 생성 실패로 간이 로드맵으로 응답합니다: {}", e.getCause().getMessage());
+                return null;
             }
-            default -> 0.0;
-        };
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("로드맵 생성 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            roadmapTask.cancel(true);
+            throw new IllegalStateException("로드맵 생성 중단", e);
+        }
     }
 
-    private int getInt(Cell cell) {
-        if (cell == null) {
-            return 0;
-        }
-        return switch (cell.getCellType()) {
-            case NUMERIC -> (int) cell.getNumericCellValue();
-            case STRING -> parseDigits(cell.getStringCellValue());
-            default -> 0;
-        };
+    /**
+     * Gemini 없이 과목 점수와 가중치 힌트만으로 로드맵을 만든다. 같은 입력과 날짜면 항상 같은 결과다.
+     * 수강 계획은 TermCalendar가 정한 다음 학기 중 정규 학기에만 추천 과목을 나눠 담고, 계절학기는 비워 둔다.
+     */
+    RoadmapAiResponseDTO buildDegradedRoadmap(RoadmapCreateRequestDTO requestDTO, LocalRecommendation local) {
+        TermWindow window = termCalendar.current();
+        List<String> sectors = local.subjectRecommendations().getMatchedSectors() == null
+            ? List.of() : local.subjectRecommendations().getMatchedSectors();
+        String sectorText = sectors.isEmpty() ? "전공 기초" : String.join(", ", sectors);
+
+        List<RoadmapAiResponseDTO.CoursePlan> regularTerms = window.terms().stream()
+            .filter(term -> !term.contains("여름") && !term.contains("겨울"))
+            .map(term -> new RoadmapAiResponseDTO.CoursePlan(
+                term, sectorText + " 분야 추천 교과목 이수", List.of(), "미정"))
+            .toList();
+
+        return RoadmapAiResponseDTO.builder()
+            .careerSummary("'%s' 목표를 기준으로 %s 분야 교과목 추천 점수만으로 구성한 간이 로드맵입니다."
+                .formatted(buildCareerText(requestDTO).trim(), sectorText))
+            .currentSkills(new RoadmapAiResponseDTO.CurrentSkills(
+                completedMajorCourseNames(requestDTO),
+                sectors.stream().map(sector -> sector + " 분야 전공 역량").toList()))
+            .coursePlan(buildCoursePlanFromSubjects(regularTerms, local.subjectRecommendations()))
+            .extracurricularPlan(List.of())
+            .recommendedTechStack(techStackFromHints(local.weightHints(), sectors))
+            .advice("AI 로드맵 생성이 지연되어 교과목 추천 점수로 만든 간이 로드맵을 제공합니다. "
+                + "잠시 후 다시 요청하면 상세 로드맵을 받을 수 있습니다.")
+            .generatedAt(window.today().toString())
+            .subjectRecommendations(local.subjectRecommendations())
+            .weightHints(local.weightHints())
+            .degraded(true)
+            .build();
     }
 
-    private int parseDigits(String value) {
-        if (value == null) {
-            return 0;
+    // 이수한 전공 과목명 (평점 높은 순, 최대 5개)
+    private List<String> completedMajorCourseNames(RoadmapCreateRequestDTO requestDTO) {
+        if (requestDTO == null || requestDTO.getTranscript() == null
+            || requestDTO.getTranscript().getCourses() == null) {
+            return List.of();
         }
-        String digits = value.replaceAll("\\D", "");
-        if (digits.isEmpty()) {
-            return 0;
+        return requestDTO.getTranscript().getCourses().stream()
+            .filter(course -> course != null && course.getCourseName() != null && !course.getCourseName().isBlank())
+            .filter(course -> course.getCourseType() != null && course.getCourseType().contains("전"))
+            .sorted(Comparator.comparingDouble(RoadmapCreateRequestDTO.Course::getGradePoint).reversed()
+                .thenComparing(RoadmapCreateRequestDTO.Course::getCourseName))
+            .map(course -> course.getCourseName().trim())
+            .distinct()
+            .limit(5)
+            .toList();
+    }
+
+    // 매칭된 분야의 키워드를 분야 순서대로 모아 기술 스택으로 쓴다 (최대 8개).
+    private List<String> techStackFromHints(WeightHintResponseDTO weightHints, List<String> sectors) {
+        if (weightHints == null || weightHints.getSectorKeywords() == null) {
+            return List.of();
         }
-        return Integer.parseInt(digits);
+        return sectors.stream()
+            .map(sector -> weightHints.getSectorKeywords().getOrDefault(sector, List.of()))
+            .flatMap(List::stream)
+            .distinct()
+            .limit(8)
+            .toList();
     }
 
-    public RoadmapAiResponseDTO generateRoadmap(RoadmapCreateRequestDTO requestDTO) {
-        RoadmapAiResponseDTO roadmap = geminiService.askRoadMap(requestDTO);
-        WeightHintResponseDTO weightHints =
-            weightHintService.buildWeightHints(buildCareerText(requestDTO));
-        SubjectScoreResponseDTO subjectRecommendations =
-            subjectRecommendationService.scoreSubjects(buildSubjectScoreRequest(requestDTO));
-        roadmap.setWeightHints(weightHints);
-        roadmap.setSubjectRecommendations(subjectRecommendations);
+    private LocalRecommendation recommendLocally(RoadmapCreateRequestDTO requestDTO) {
+        return new LocalRecommendation(
+            weightHintService.buildWeightHints(buildCareerText(requestDTO)),
+            subjectRecommendationService.scoreSubjects(buildSubjectScoreRequest(requestDTO)));
+    }
+
+    private void applyLocal(RoadmapAiResponseDTO roadmap, LocalRecommendation local) {
+        roadmap.setWeightHints(local.weightHints());
+        roadmap.setSubjectRecommendations(local.subjectRecommendations());
         roadmap.setCoursePlan(
-            buildCoursePlanFromSubjects(roadmap.getCoursePlan(), subjectRecommendations));
-        return roadmap;
+            buildCoursePlanFromSubjects(roadmap.getCoursePlan(), local.subjectRecommendations()));
+    }
+
+    private record Section(String name, Object value) {
+
+        static final Section END = new Section(null, null);
+    }
+
+    private record LocalRecommendation(
+        WeightHintResponseDTO weightHints,
+        SubjectScoreResponseDTO subjectRecommendations
+    ) {
     }
 
     private SubjectScoreRequestDTO buildSubjectScoreRequest(RoadmapCreateRequestDTO requestDTO) {
@@ -168,7 +325,7 @@ public class RoadmapService {
             .collect(Collectors.toList());
     }
 
-    private List<RoadmapAiResponseDTO.CoursePlan> buildCoursePlanFromSubjects(
+    List<RoadmapAiResponseDTO.CoursePlan> buildCoursePlanFromSubjects(
         List<RoadmapAiResponseDTO.CoursePlan> coursePlan,
         SubjectScoreResponseDTO subjectRecommendations
     ) {
@@ -268,53 +425,24 @@ public class RoadmapService {
         );
     }
 
-    public ExcelParseResponseDTO convertExcelParseResponseDTO(List<ExcelParseDTO> excelParseDTOS) {
-        double totalCredits = 0.0;
-        double totalMajorCredits = 0.0;
-        double totalGradePoints = 0.0;
-        double pnp = 0.0;
-        double totalF = 0.0;
-
-        for (ExcelParseDTO parseDTO : excelParseDTOS) {
-            String grade = parseDTO.getGrade();
-
-            // 3. F 학점은 totalCredits에는 포함되지만 점수는 0점 (GPA를 깎아먹는 요인)
-            // startsWith("F") 블록이 비어있어도 아래에서 credits와 gradePoints(0)가 더해지므로 로직상 정상입니다.
-            if (grade.startsWith("F")) {
-                // 명시적으로 무언가를 할 필요는 없으나, 가독성을 위해 남겨둠
-                totalF += parseDTO.getCredits();
-            }
-
-            // 1. NP는 학점 계산에서 완전히 제외 (94학점에 미포함)
-            if (grade.startsWith("NP")) {
-                continue;
-            }
-
-            // 2. P 학점은 별도로 합산 (나중에 GPA 분모에서 제외하기 위함)
-            if (grade.startsWith("P")) {
-                pnp += parseDTO.getCredits();
-            }
-
-            // 공통: 학점 합산 (P, F, 일반성적 모두 포함하여 94.0학점)
-            totalCredits += parseDTO.getCredits();
-
-            if (parseDTO.getCourseType().contains("전")) {
-                totalMajorCredits += parseDTO.getCredits();
-            }
-
-            // 성적 총점 합산 (F와 P는 gradePoint가 0이므로 결과에 영향을 주지 않음)
-            totalGradePoints += parseDTO.getGradePoint() * parseDTO.getCredits();
+    /**
+     * 성적표를 파싱하면서 바로 학점/평점 요약을 누적한다. includeCourses가 false면 행 목록을 만들지 않는다.
+     */
+    public ExcelParseResponseDTO summarize(MultipartFile file, boolean includeCourses) {
+        try (SpooledTranscript transcript = SpooledTranscript.spool(file)) {
+            return summarize(transcript, includeCourses);
         }
+    }
 
-// 4. 최종 GPA 계산 (중요: pnp 학점을 제외한 학점으로 나눔)
-        double gpaDenominator = totalCredits - pnp; // 94.0 - 6.0 = 88.0
-        double averageGPA = (gpaDenominator > 0) ? totalGradePoints / gpaDenominator : 0.0;
-        return ExcelParseResponseDTO.builder()
-            .courses(excelParseDTOS)
-            .totalCredits(totalCredits - totalF)
-            .totalMajorCredits(totalMajorCredits)
-            .totalGeneralCredits(totalCredits - totalMajorCredits)
-            .averageGPA(averageGPA)
-            .build();
+    ExcelParseResponseDTO summarize(SpooledTranscript transcript, boolean includeCourses) {
+        TranscriptAccumulator accumulator = new TranscriptAccumulator(includeCourses);
+        parse(transcript, accumulator);
+        return accumulator.toResponse();
+    }
+
+    public ExcelParseResponseDTO convertExcelParseResponseDTO(List<ExcelParseDTO> excelParseDTOS) {
+        TranscriptAccumulator accumulator = new TranscriptAccumulator(true);
+        excelParseDTOS.forEach(accumulator);
+        return accumulator.toResponse();
     }
 }
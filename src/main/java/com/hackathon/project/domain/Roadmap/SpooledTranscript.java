@@ -0,0 +1,78 @@
+package com.hackathon.project.domain.Roadmap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드된 성적표를 임시 파일로 옮긴 것과 그 내용의 SHA-256 다이제스트.
+ * file-size-threshold를 넘어 컨테이너가 이미 디스크에 둔 파트는 {@link MultipartFile#transferTo(File)}가
+ * 파일 이동으로 처리하므로 다시 쓰지 않고, 다이제스트는 옮긴 파일을 한 번 읽어 계산한다.
+ * 파싱 결과 캐시는 다이제스트를 키로 쓰고 파서는 이 파일을 파일 기반 OPC 패키지로 연다.
+ * 옮긴 뒤에는 원래 MultipartFile을 다시 읽을 수 없다. close()에서 임시 파일을 지운다.
+ */
+final class SpooledTranscript implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path path;
+    private final String digest;
+
+    private SpooledTranscript(Path path, String digest) {
+        this.path = path;
+        this.digest = digest;
+    }
+
+    static SpooledTranscript spool(MultipartFile file) {
+        try {
+            Path path = Files.createTempFile("transcript-", ".xlsx");
+            try {
+                // transferTo(Path)는 항상 스트림 복사이고, File 버전만 서블릿 Part.write(이동)를 쓴다.
+                file.transferTo(path.toFile());
+                return new SpooledTranscript(path, digest(path));
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(path);
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("엑셀 파싱 실패", e);
+        }
+    }
+
+    // 버퍼 단위로 읽으며 다이제스트만 계산한다. 파일 전체를 메모리에 올리지 않는다.
+    private static String digest(Path path) throws IOException {
+        try (InputStream is = Files.newInputStream(path)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int read = is.read(buffer); read != -1; read = is.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    File file() {
+        return path.toFile();
+    }
+
+    String digest() {
+        return digest;
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.hackathon.project.domain.Roadmap;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오늘 날짜(한국 시간) 기준으로 로드맵에 쓸 다음 학기 순서를 정한다.
+ * Gemini 프롬프트와 로드맵 캐시가 같은 학기 구간을 보도록 한곳에서 계산한다.
+ */
+@Component
+public class TermCalendar {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    public TermWindow current() {
+        return windowOf(LocalDate.now(ZONE));
+    }
+
+    /**
+     * 오늘 날짜와 다음 학기 순서를 프롬프트용 문장으로 만든다.
+     */
+    public String termContext() {
+        TermWindow window = current();
+        StringBuilder sb = new StringBuilder();
+        sb.append("- 오늘 날짜: ").append(window.today()).append('\n');
+        sb.append("- 다음 학기 순서:\n");
+        for (String term : window.terms()) {
+            sb.append("  - ").append(term).append('\n');
+        }
+        return sb.toString().trim();
+    }
+
+    static TermWindow windowOf(LocalDate today) {
+        int year = today.getYear();
+        int month = today.getMonthValue();
+
+        if (month >= 5 && month <= 6) {
+            return new TermWindow(today, List.of(
+                "%d 여름학기".formatted(year),
+                "%d 2학기".formatted(year),
+                "%d 겨울학기".formatted(year),
+                "%d 1학기".formatted(year + 1)
+            ), LocalDate.of(year, 7, 1));
+        } else if (month >= 7 && month <= 8) {
+            return new TermWindow(today, List.of(
+                "%d 2학기".formatted(year),
+                "%d 겨울학기".formatted(year),
+                "%d 1학기".formatted(year + 1),
+                "%d 여름학기".formatted(year + 1)
+            ), LocalDate.of(year, 9, 1));
+        } else if (month >= 9) {
+            return new TermWindow(today, List.of(
+                "%d 겨울학기".formatted(year + 1),
+                "%d 1학기".formatted(year + 1),
+                "%d 여름학기".formatted(year + 1),
+                "%d 2학기".formatted(year + 1)
+            ), LocalDate.of(year + 1, 1, 1));
+        }
+        // 1~4월
+        return new TermWindow(today, List.of(
+            "%d 1학기".formatted(year),
+            "%d 여름학기".formatted(year),
+            "%d 2학기".formatted(year),
+            "%d 겨울학기".formatted(year)
+        ), LocalDate.of(year, 5, 1));
+    }
+
+    /**
+     * @param nextChange 학기 순서가 바뀌는 첫 날짜(이 날짜 0시부터 다른 구간)
+     */
+    public record TermWindow(LocalDate today, List<String> terms, LocalDate nextChange) {
+
+        public Instant nextChangeInstant() {
+            return nextChange.atStartOfDay(ZONE).toInstant();
+        }
+    }
+}
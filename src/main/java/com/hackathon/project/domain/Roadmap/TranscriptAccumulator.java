@@ -0,0 +1,121 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseDTO;
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseResponseDTO;
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseResponseDTO.SemesterSummary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 파싱되는 성적표 행을 하나씩 받아 전체/학기별 학점과 평점을 누적한다.
+ * 파서의 consumer로 넘기면 행 목록을 따로 만들지 않고 한 번의 순회로 요약이 끝난다.
+ * includeCourses가 false면 행을 보관하지 않으며 응답의 courses는 null이다.
+ */
+public class TranscriptAccumulator implements Consumer<ExcelParseDTO> {
+
+    private final List<ExcelParseDTO> courses;
+    private final Totals total = new Totals();
+    private final Map<Term, Totals> bySemester = new TreeMap<>();
+
+    public TranscriptAccumulator(boolean includeCourses) {
+        this.courses = includeCourses ? new ArrayList<>() : null;
+    }
+
+    @Override
+    public void accept(ExcelParseDTO parseDTO) {
+        if (courses != null) {
+            courses.add(parseDTO);
+        }
+        total.add(parseDTO);
+        bySemester.computeIfAbsent(
+                new Term(parseDTO.getCompletedYear(), parseDTO.getCompletedSemester()), term -> new Totals())
+            .add(parseDTO);
+    }
+
+    public ExcelParseResponseDTO toResponse() {
+        List<SemesterSummary> semesters = new ArrayList<>(bySemester.size());
+        bySemester.forEach((term, totals) -> semesters.add(SemesterSummary.builder()
+            .completedYear(term.year())
+            .completedSemester(term.semester())
+            .totalCredits(totals.earnedCredits())
+            .totalMajorCredits(totals.totalMajorCredits)
+            .totalGeneralCredits(totals.generalCredits())
+            .averageGPA(totals.averageGPA())
+            .build()));
+
+        return ExcelParseResponseDTO.builder()
+            .courses(courses)
+            .totalCredits(total.earnedCredits())
+            .totalMajorCredits(total.totalMajorCredits)
+            .totalGeneralCredits(total.generalCredits())
+            .averageGPA(total.averageGPA())
+            .semesters(semesters)
+            .build();
+    }
+
+    private record Term(int year, int semester) implements Comparable<Term> {
+
+        @Override
+        public int compareTo(Term other) {
+            int byYear = Integer.compare(year, other.year);
+            return byYear != 0 ? byYear : Integer.compare(semester, other.semester);
+        }
+    }
+
+    private static class Totals {
+
+        private double totalCredits;
+        private double totalMajorCredits;
+        private double totalGradePoints;
+        private double pnp;
+        private double totalF;
+
+        void add(ExcelParseDTO parseDTO) {
+            // 등급/이수구분 셀이 비어 있으면 파서가 null을 넘긴다. 일반 성적 행처럼 취급한다.
+            String grade = parseDTO.getGrade() == null ? "" : parseDTO.getGrade();
+
+            // F 학점은 totalCredits에는 포함되지만 점수는 0점 (GPA를 깎아먹는 요인)
+            if (grade.startsWith("F")) {
+                totalF += parseDTO.getCredits();
+            }
+
+            // NP는 학점 계산에서 완전히 제외
+            if (grade.startsWith("NP")) {
+                return;
+            }
+
+            // P 학점은 별도로 합산 (나중에 GPA 분모에서 제외하기 위함)
+            if (grade.startsWith("P")) {
+                pnp += parseDTO.getCredits();
+            }
+
+            // 공통: 학점 합산 (P, F, 일반성적 모두 포함)
+            totalCredits += parseDTO.getCredits();
+
+            if (parseDTO.getCourseType() != null && parseDTO.getCourseType().contains("전")) {
+                totalMajorCredits += parseDTO.getCredits();
+            }
+
+            // 성적 총점 합산 (F와 P는 gradePoint가 0이므로 결과에 영향을 주지 않음)
+            totalGradePoints += parseDTO.getGradePoint() * parseDTO.getCredits();
+        }
+
+        // 취득 학점: F 학점 제외
+        double earnedCredits() {
+            return totalCredits - totalF;
+        }
+
+        double generalCredits() {
+            return totalCredits - totalMajorCredits;
+        }
+
+        // GPA 분모에서는 P 학점을 제외한다.
+        double averageGPA() {
+            double gpaDenominator = totalCredits - pnp;
+            return (gpaDenominator > 0) ? totalGradePoints / gpaDenominator : 0.0;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.hackathon.project.domain.Roadmap;
+
+/**
+ * 다중 성적표 업로드의 파일 수가 한도를 넘을 때 던진다. 파싱을 시작하기 전에 검사한다.
+ */
+public class TranscriptFileCountExceededException extends RuntimeException {
+
+    public TranscriptFileCountExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.hackathon.project.domain.Roadmap;
+
+import lombok.Getter;
+
+/**
+ * 다중 성적표 업로드 중 한 파일의 파싱이 실패했을 때 어느 파일인지 담아 던진다.
+ */
+@Getter
+public class TranscriptFileParseException extends RuntimeException {
+
+    private final String fileName;
+
+    public TranscriptFileParseException(String fileName, Throwable cause) {
+        super("성적표 파싱 실패: " + fileName, cause);
+        this.fileName = fileName;
+    }
+}
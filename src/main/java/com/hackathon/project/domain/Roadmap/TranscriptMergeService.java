@@ -0,0 +1,125 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseDTO;
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseResponseDTO;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 여러 성적표 파일(복수전공, 편입 등)을 동시에 파싱해 하나의 성적 요약으로 합친다.
+ * 파일마다 단일 업로드와 같은 캐시와 동시 실행 제한을 거치며, 전용 고정 크기 풀에서 병렬로 실행한다.
+ * 한 요청의 파일 수는 max-files까지이고, 파일 하나가 실패하면 그 파일 이름을 담은
+ * {@link TranscriptFileParseException}으로 전체 요청을 실패시킨다.
+ */
+@Service
+public class TranscriptMergeService {
+
+    private final RoadmapService roadmapService;
+    private final TranscriptParseCache transcriptParseCache;
+    private final TranscriptParseAdmission transcriptParseAdmission;
+    private final int maxFiles;
+    private final ThreadPoolExecutor executor;
+
+    public TranscriptMergeService(
+        RoadmapService roadmapService,
+        TranscriptParseCache transcriptParseCache,
+        TranscriptParseAdmission transcriptParseAdmission,
+        @Value("${transcript.parse.multi.threads:4}") int threads,
+        @Value("${transcript.parse.multi.queue-capacity:64}") int queueCapacity,
+        @Value("${transcript.parse.multi.max-files:10}") int maxFiles) {
+        this.roadmapService = roadmapService;
+        this.maxFiles = maxFiles;
+        this.transcriptParseCache = transcriptParseCache;
+        this.transcriptParseAdmission = transcriptParseAdmission;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "transcript-parse-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * 파일별 행을 업로드 순서대로 합치고, 학수번호 + 이수년도/학기가 같은 행은 처음 것만 남긴다.
+     * 학수번호가 없는 행은 중복 판단 없이 모두 포함한다.
+     */
+    public ExcelParseResponseDTO parseAll(List<MultipartFile> files, boolean includeCourses) {
+        if (files.size() > maxFiles) {
+            throw new TranscriptFileCountExceededException(
+                "성적표는 한 번에 최대 %d개까지 올릴 수 있습니다: %d개".formatted(maxFiles, files.size()));
+        }
+        List<Future<List<ExcelParseDTO>>> futures = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                futures.add(executor.submit(() -> parseRows(file)));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new TranscriptParseRejectedException("다중 성적표 파싱 대기열이 가득 찼습니다.");
+        }
+
+        TranscriptAccumulator accumulator = new TranscriptAccumulator(includeCourses);
+        Set<String> seen = new HashSet<>();
+        for (Future<List<ExcelParseDTO>> future : futures) {
+            for (ExcelParseDTO row : await(future, futures)) {
+                if (row.getCourseCode() == null || row.getCourseCode().isBlank()
+                    || seen.add(row.getCourseCode().trim() + "|" + row.getCompletedYear()
+                        + "|" + row.getCompletedSemester())) {
+                    accumulator.accept(row);
+                }
+            }
+        }
+        return accumulator.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 단일 업로드와 같은 캐시 항목(행 목록 포함)을 공유한다.
+    // 과부하 거절(503)은 파일 문제가 아니므로 그대로 던지고, 나머지 실패에는 파일 이름을 붙인다.
+    private List<ExcelParseDTO> parseRows(MultipartFile file) {
+        try (SpooledTranscript transcript = SpooledTranscript.spool(file)) {
+            return transcriptParseCache.get(transcript.digest(), true,
+                () -> transcriptParseAdmission.admit(() -> roadmapService.summarize(transcript, true)))
+                .getCourses();
+        } catch (TranscriptParseRejectedException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new TranscriptFileParseException(file.getOriginalFilename(), e);
+        }
+    }
+
+    private static List<ExcelParseDTO> await(Future<List<ExcelParseDTO>> future,
+        List<Future<List<ExcelParseDTO>>> siblings) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            siblings.forEach(sibling -> sibling.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("엑셀 파싱 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            siblings.forEach(sibling -> sibling.cancel(true));
+            throw new RuntimeException("엑셀 파싱 중단", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hackathon.project.domain.Roadmap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 성적표 파싱 동시 실행 제한.
+ * 동시에 max-concurrent건까지만 파싱하고, 그 이상은 max-queued건까지 queue-timeout 동안 순서대로 기다린다.
+ * 대기열이 가득 찼거나 대기 시간이 지나면 {@link TranscriptParseRejectedException}으로 바로 거절한다.
+ */
+@Component
+public class TranscriptParseAdmission {
+
+    private final Semaphore permits;
+    private final int maxQueued;
+    private final long queueTimeoutNanos;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    public TranscriptParseAdmission(
+        @Value("${transcript.parse.max-concurrent:4}") int maxConcurrent,
+        @Value("${transcript.parse.max-queued:16}") int maxQueued,
+        @Value("${transcript.parse.queue-timeout:5s}") Duration queueTimeout,
+        MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxQueued = maxQueued;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.rejected = meterRegistry.counter("transcript.parse.rejected");
+        meterRegistry.gauge("transcript.parse.queued", queued);
+    }
+
+    public <T> T admit(Supplier<T> task) {
+        acquire();
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        // 공정 모드 세마포어라 timeout 0으로 시도해야 기다리는 요청보다 먼저 들어가지 않는다.
+        if (tryAcquire(0)) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            throw reject("성적표 파싱 대기열이 가득 찼습니다.");
+        }
+        try {
+            if (!tryAcquire(queueTimeoutNanos)) {
+                throw reject("성적표 파싱 대기 시간이 초과되었습니다.");
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private boolean tryAcquire(long timeoutNanos) {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("성적표 파싱 대기 중 중단되었습니다.");
+        }
+    }
+
+    private TranscriptParseRejectedException reject(String message) {
+        rejected.increment();
+        return new TranscriptParseRejectedException(message);
+    }
+}
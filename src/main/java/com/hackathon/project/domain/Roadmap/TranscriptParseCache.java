@@ -0,0 +1,79 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 파일 내용(SHA-256) 기준 성적표 파싱 결과 캐시.
+ * 같은 파일을 다시 올리면 POI를 거치지 않고 이전 결과를 돌려준다.
+ * 항목 수 상한을 넘으면 가장 오래 쓰이지 않은 항목부터, TTL이 지난 항목은 조회 시 버린다.
+ * 적중/실패 횟수는 transcript.parse.cache 메트릭(result=hit|miss)으로 노출한다.
+ */
+@Component
+public class TranscriptParseCache {
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TranscriptParseCache(
+        @Value("${transcript.parse-cache.max-entries:256}") int maxEntries,
+        @Value("${transcript.parse-cache.ttl:30m}") Duration ttl,
+        MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = Counter.builder("transcript.parse.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("transcript.parse.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("transcript.parse.cache.size", this, TranscriptParseCache::size);
+    }
+
+    /**
+     * 파일 내용의 다이제스트로 캐시를 찾고, 없으면 loader로 파싱한 결과를 저장한다.
+     * 행 목록 포함 여부에 따라 응답이 다르므로 키에 함께 넣는다.
+     * 다이제스트는 {@link SpooledTranscript}가 업로드를 임시 파일로 옮기면서 계산한 값이다.
+     * 캐시 적중 시 파싱을 건너뛰어야 하므로 파싱 전에 확정되어 있어야 한다.
+     */
+    public ExcelParseResponseDTO get(String digest, boolean includeCourses,
+        Supplier<ExcelParseResponseDTO> loader) {
+        String key = digest + (includeCourses ? ":courses" : ":summary");
+        long now = System.nanoTime();
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                if (now - cached.loadedAt() < ttlNanos) {
+                    hits.increment();
+                    return cached.response();
+                }
+                entries.remove(key);
+            }
+        }
+
+        misses.increment();
+        // 파싱은 락 밖에서 수행한다.
+        ExcelParseResponseDTO loaded = loader.get();
+        synchronized (this) {
+            entries.put(key, new Entry(loaded, System.nanoTime()));
+        }
+        return loaded;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(ExcelParseResponseDTO response, long loadedAt) {
+    }
+}
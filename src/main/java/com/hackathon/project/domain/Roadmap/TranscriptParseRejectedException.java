@@ -0,0 +1,11 @@
+package com.hackathon.project.domain.Roadmap;
+
+/**
+ * 파싱 동시 실행 한도와 대기열이 모두 찬 상태에서 들어온 업로드를 거절할 때 던진다.
+ */
+public class TranscriptParseRejectedException extends RuntimeException {
+
+    public TranscriptParseRejectedException(String message) {
+        super(message);
+    }
+}
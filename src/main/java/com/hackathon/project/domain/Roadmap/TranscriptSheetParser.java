@@ -0,0 +1,294 @@
+package com.hackathon.project.domain.Roadmap;
+
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseDTO;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * 성적표 xlsx의 첫 시트를 SAX 이벤트로 읽어 데이터 행마다 {@link ExcelParseDTO}를 넘긴다.
+ * XSSFWorkbook처럼 시트 전체를 DOM으로 만들지 않으므로 시트 데이터는 한 행 분량만 메모리에 둔다.
+ * 셀 값 변환 규칙은 XSSFCell 기준의 getString/getDouble/getInt와 같다.
+ */
+final class TranscriptSheetParser {
+
+    static final int FIRST_DATA_ROW = 4; // 0부터 센 행 번호, 위쪽은 제목/헤더
+    private static final int LAST_COLUMN = 12;
+
+    private TranscriptSheetParser() {
+    }
+
+    /**
+     * 디스크의 파일을 zip 임의 접근으로 연다. OPCPackage.open(InputStream)은 zip 전체를 메모리에 풀기 때문에
+     * 스트림 입력은 받지 않는다. 호출 측이 업로드를 파일로 옮긴 뒤 넘긴다.
+     */
+    static void parse(File file, Consumer<ExcelParseDTO> consumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            parse(pkg, consumer);
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void parse(OPCPackage pkg, Consumer<ExcelParseDTO> consumer) throws IOException {
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("시트가 없는 엑셀 파일입니다.");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new SheetHandler(strings, consumer));
+                xmlReader.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // XSSFCell.getCellType()과 같은 분류. 값이 없는 셀은 BLANK로, 셀이 없는 경우와 같게 취급된다.
+    private enum CellKind {
+        BLANK, STRING, NUMERIC, BOOLEAN, FORMULA, ERROR
+    }
+
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable strings;
+        private final Consumer<ExcelParseDTO> consumer;
+
+        // 현재 행의 1~12열만 보관한다.
+        private final CellKind[] kinds = new CellKind[LAST_COLUMN + 1];
+        private final String[] values = new String[LAST_COLUMN + 1];
+        private final Map<String, String> sharedFormulas = new HashMap<>();
+        private final StringBuilder text = new StringBuilder();
+
+        private int rowIndex = -1;
+        private int columnIndex;
+        private String cellType;
+        private String value;
+        private String formula;
+        private String inlineString;
+        private boolean inValue;
+        private boolean inFormula;
+        private boolean inInlineString;
+        private boolean inPhonetic;
+        private String sharedFormulaIndex;
+
+        SheetHandler(ReadOnlySharedStringsTable strings, Consumer<ExcelParseDTO> consumer) {
+            this.strings = strings;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String ref = attributes.getValue("r");
+                    rowIndex = ref == null ? rowIndex + 1 : Integer.parseInt(ref) - 1;
+                    columnIndex = -1;
+                    for (int i = 0; i <= LAST_COLUMN; i++) {
+                        kinds[i] = CellKind.BLANK;
+                        values[i] = null;
+                    }
+                }
+                case "c" -> {
+                    String ref = attributes.getValue("r");
+                    columnIndex = ref == null ? columnIndex + 1 : columnOf(ref);
+                    cellType = attributes.getValue("t");
+                    value = null;
+                    formula = null;
+                    inlineString = null;
+                    sharedFormulaIndex = null;
+                }
+                case "v" -> {
+                    inValue = true;
+                    text.setLength(0);
+                }
+                case "f" -> {
+                    inFormula = true;
+                    text.setLength(0);
+                    formula = "";
+                    if ("shared".equals(attributes.getValue("t"))) {
+                        sharedFormulaIndex = attributes.getValue("si");
+                    }
+                }
+                case "is" -> {
+                    inInlineString = true;
+                    inlineString = "";
+                    text.setLength(0);
+                }
+                case "rPh" -> inPhonetic = true;
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v" -> {
+                    value = text.toString();
+                    inValue = false;
+                }
+                case "f" -> {
+                    formula = text.toString();
+                    inFormula = false;
+                    if (sharedFormulaIndex != null) {
+                        // 공유 수식은 첫 셀에만 본문이 있다. 나머지 셀은 같은 본문을 쓴다(참조 이동은 하지 않음).
+                        if (formula.isEmpty()) {
+                            formula = sharedFormulas.getOrDefault(sharedFormulaIndex, "");
+                        } else {
+                            sharedFormulas.put(sharedFormulaIndex, formula);
+                        }
+                    }
+                }
+                case "is" -> {
+                    inlineString = text.toString();
+                    inInlineString = false;
+                }
+                case "rPh" -> inPhonetic = false;
+                case "c" -> {
+                    if (rowIndex >= FIRST_DATA_ROW && columnIndex >= 1 && columnIndex <= LAST_COLUMN) {
+                        storeCell();
+                    }
+                }
+                case "row" -> {
+                    if (rowIndex >= FIRST_DATA_ROW) {
+                        consumer.accept(toDto());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue || inFormula || (inInlineString && !inPhonetic)) {
+                text.append(ch, start, length);
+            }
+        }
+
+        private void storeCell() {
+            if (formula != null) {
+                kinds[columnIndex] = CellKind.FORMULA;
+                values[columnIndex] = formula;
+                return;
+            }
+            String type = cellType == null ? "n" : cellType;
+            switch (type) {
+                case "s" -> {
+                    kinds[columnIndex] = CellKind.STRING;
+                    values[columnIndex] = value == null
+                        ? "" : strings.getItemAt(Integer.parseInt(value)).getString();
+                }
+                case "inlineStr" -> {
+                    kinds[columnIndex] = CellKind.STRING;
+                    values[columnIndex] = inlineString == null ? "" : inlineString;
+                }
+                case "str" -> {
+                    kinds[columnIndex] = CellKind.STRING;
+                    values[columnIndex] = value == null ? "" : value;
+                }
+                case "b" -> {
+                    kinds[columnIndex] = CellKind.BOOLEAN;
+                    values[columnIndex] = value;
+                }
+                case "e" -> kinds[columnIndex] = CellKind.ERROR;
+                default -> {
+                    kinds[columnIndex] = value == null ? CellKind.BLANK : CellKind.NUMERIC;
+                    values[columnIndex] = value;
+                }
+            }
+        }
+
+        private ExcelParseDTO toDto() {
+            return ExcelParseDTO.builder()
+                .completedYear(getInt(1))         // 이수년도
+                .completedSemester(getInt(2))     // 이수학기
+                .courseCode(getString(3))         // 학수번호
+                .courseName(getString(4))         // 교과목명
+                .courseType(getString(5))         // 이수구분
+                .teachingArea(getString(6))       // 교직영역
+                .selectedArea(getString(7))       // 선택영역
+                .credits(getDouble(8))            // 학점
+                .evaluationType(getString(9))     // 평가방식
+                .grade(getString(10))             // 등급
+                .gradePoint(getDouble(11))        // 평점
+                .departmentCode(getString(12))    // 개설학과코드
+                .build();
+        }
+
+        private String getString(int column) {
+            return switch (kinds[column]) {
+                case STRING -> values[column].trim();
+                case NUMERIC -> String.valueOf(numeric(values[column]));
+                case BOOLEAN -> String.valueOf("1".equals(values[column]));
+                case FORMULA -> values[column];
+                default -> null;
+            };
+        }
+
+        private double getDouble(int column) {
+            return switch (kinds[column]) {
+                case NUMERIC -> numeric(values[column]);
+                case STRING -> {
+                    String value = values[column].trim();
+                    yield value.isEmpty() ? 0.0 : Double.parseDouble(value);
+                }
+                default -> 0.0;
+            };
+        }
+
+        private int getInt(int column) {
+            return switch (kinds[column]) {
+                case NUMERIC -> (int) numeric(values[column]);
+                case STRING -> parseDigits(values[column]);
+                default -> 0;
+            };
+        }
+
+        private static double numeric(String value) {
+            return value.isEmpty() ? 0.0 : Double.parseDouble(value);
+        }
+
+        private static int parseDigits(String value) {
+            String digits = value.replaceAll("\\D", "");
+            if (digits.isEmpty()) {
+                return 0;
+            }
+            return Integer.parseInt(digits);
+        }
+
+        // "AB12" 같은 셀 참조에서 0부터 센 열 번호를 구한다.
+        private static int columnOf(String ref) {
+            int column = 0;
+            for (int i = 0; i < ref.length(); i++) {
+                char c = ref.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                column = column * 26 + (c - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+}
@@ -2,10 +2,11 @@ package com.hackathon.project.domain.Roadmap;
 
 import com.hackathon.project.domain.Roadmap.dto.WeightHintResponseDTO;
 import com.hackathon.project.domain.Roadmap.dto.WeightHintResponseDTO.WeightRule;
+import com.hackathon.project.global.util.KeywordAutomaton;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import org.springframework.stereotype.Service;
 
@@ -13,6 +14,8 @@ import org.springframework.stereotype.Service;
 public class WeightHintService {
 
     private static final Map<String, List<String>> SECTOR_KEYWORDS = buildSectorKeywords();
+    private static final List<String> SECTORS = List.copyOf(SECTOR_KEYWORDS.keySet());
+    private static final KeywordAutomaton SECTOR_AUTOMATON = buildSectorAutomaton();
     private static final List<WeightRule> WEIGHT_RULES = buildWeightRules();
     private static final int DEFAULT_N = 20;
     private static final String NOTES =
@@ -20,7 +23,8 @@ public class WeightHintService {
             + "영어 키워드는 한글 키워드와 동등하게 매칭하며 대소문자는 구분하지 않는다.";
 
     public WeightHintResponseDTO buildWeightHints(String careerText) {
-        List<String> matchedSectors = matchSectors(careerText);
+        Map<String, List<String>> matchedKeywords = matchKeywords(careerText);
+        List<String> matchedSectors = new ArrayList<>(matchedKeywords.keySet());
         Map<String, List<String>> keywords =
             matchedSectors.isEmpty() ? SECTOR_KEYWORDS : filterKeywords(matchedSectors);
         if (matchedSectors.isEmpty()) {
@@ -30,37 +34,60 @@ public class WeightHintService {
         return new WeightHintResponseDTO(
             matchedSectors,
             keywords,
+            matchedKeywords,
             WEIGHT_RULES,
             DEFAULT_N,
             NOTES
         );
     }
 
-    private List<String> matchSectors(String careerText) {
-        if (careerText == null || careerText.isBlank()) {
-            return List.of();
-        }
+    /**
+     * 섹터 목록. 순서는 섹터 비트마스크의 비트 위치와 같다.
+     */
+    public List<String> getSectors() {
+        return SECTORS;
+    }
 
-        String normalized = careerText.toLowerCase(Locale.ROOT);
-        List<String> matched = new ArrayList<>();
-        for (Map.Entry<String, List<String>> entry : SECTOR_KEYWORDS.entrySet()) {
-            if (containsAny(normalized, entry.getValue())) {
-                matched.add(entry.getKey());
+    public Map<String, List<String>> getSectorKeywords() {
+        return SECTOR_KEYWORDS;
+    }
+
+    /**
+     * 섹터 이름 목록을 {@link #getSectors()} 순서 기준의 비트마스크로 변환한다.
+     */
+    public int toSectorMask(List<String> sectors) {
+        int mask = 0;
+        for (String sector : sectors) {
+            int index = SECTORS.indexOf(sector);
+            if (index >= 0) {
+                mask |= 1 << index;
             }
         }
-        return matched;
+        return mask;
     }
 
-    private boolean containsAny(String normalizedText, List<String> keywords) {
-        for (String keyword : keywords) {
-            if (keyword == null || keyword.isBlank()) {
-                continue;
+    /**
+     * 진로 텍스트에서 찾은 키워드를 섹터별로 모은다. 섹터는 {@link #getSectors()} 순서다.
+     */
+    private Map<String, List<String>> matchKeywords(String careerText) {
+        if (careerText == null || careerText.isBlank()) {
+            return Map.of();
+        }
+
+        List<List<String>> bySector = new ArrayList<>(Collections.nCopies(SECTORS.size(), null));
+        for (KeywordAutomaton.Hit hit : SECTOR_AUTOMATON.matches(careerText)) {
+            if (bySector.get(hit.group()) == null) {
+                bySector.set(hit.group(), new ArrayList<>());
             }
-            if (normalizedText.contains(keyword.toLowerCase(Locale.ROOT))) {
-                return true;
+            bySector.get(hit.group()).add(hit.keyword());
+        }
+        Map<String, List<String>> matched = new LinkedHashMap<>();
+        for (int i = 0; i < SECTORS.size(); i++) {
+            if (bySector.get(i) != null) {
+                matched.put(SECTORS.get(i), bySector.get(i));
             }
         }
-        return false;
+        return matched;
     }
 
     private Map<String, List<String>> filterKeywords(List<String> matchedSectors) {
@@ -84,7 +111,15 @@ public class WeightHintService {
         keywords.put("경영", List.of("경영", "비즈니스", "전략", "마케팅", "회계", "재무", "조직"));
         keywords.put("디자인", List.of("디자인", "UX", "UI", "인터랙션", "시각디자인", "콘텐츠"));
         keywords.put("언론", List.of("언론", "미디어", "저널리즘", "방송", "신문", "커뮤니케이션"));
-        return keywords;
+        return Collections.unmodifiableMap(keywords);
+    }
+
+    private static KeywordAutomaton buildSectorAutomaton() {
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder();
+        for (int i = 0; i < SECTORS.size(); i++) {
+            builder.addAll(SECTOR_KEYWORDS.get(SECTORS.get(i)), i);
+        }
+        return builder.build();
     }
 
     private static List<WeightRule> buildWeightRules() {
@@ -13,4 +13,17 @@ public class ExcelParseResponseDTO {
     private double totalGeneralCredits;
     private double totalMajorCredits;
     private double averageGPA;
+    private List<SemesterSummary> semesters; // 이수년도/학기 오름차순
+
+    @Getter
+    @Builder
+    public static class SemesterSummary {
+
+        private int completedYear;
+        private int completedSemester;
+        private double totalCredits;
+        private double totalGeneralCredits;
+        private double totalMajorCredits;
+        private double averageGPA;
+    }
 }
@@ -1,13 +1,17 @@
 package com.hackathon.project.domain.Roadmap.dto;
 
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO;
 
 @Getter
+@Builder
 @NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class RoadmapAiResponseDTO {
 
     private String careerSummary;
@@ -19,6 +23,7 @@ public class RoadmapAiResponseDTO {
     private String generatedAt;
     private SubjectScoreResponseDTO subjectRecommendations;
     private WeightHintResponseDTO weightHints;
+    private boolean degraded; // Gemini 없이 로컬 추천만으로 만든 간이 로드맵
 
     public void setSubjectRecommendations(SubjectScoreResponseDTO subjectRecommendations) {
         this.subjectRecommendations = subjectRecommendations;
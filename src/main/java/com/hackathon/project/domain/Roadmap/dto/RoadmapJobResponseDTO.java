@@ -0,0 +1,36 @@
+package com.hackathon.project.domain.Roadmap.dto;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@Builder
+public class RoadmapJobResponseDTO {
+
+    private String jobId;
+    private Status status;
+    private Integer queuePosition;      // QUEUED일 때만, 1이면 다음 차례
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Instant expiresAt;          // 끝난 작업의 결과 보관 기한
+    private RoadmapAiResponseDTO roadmap; // SUCCEEDED일 때만
+    private ErrorCode errorCode;        // FAILED일 때만
+    private String error;               // FAILED일 때만, errorCode의 안내 문구
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum ErrorCode {
+        AI_UNAVAILABLE("AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해 주세요."),
+        AI_FAILED("AI 로드맵 생성에 실패했습니다."),
+        INTERNAL_ERROR("로드맵 생성 중 오류가 발생했습니다.");
+
+        private final String message;
+    }
+}
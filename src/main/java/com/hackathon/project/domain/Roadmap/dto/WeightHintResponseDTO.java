@@ -11,6 +11,7 @@ public class WeightHintResponseDTO {
 
     private List<String> matchedSectors;
     private Map<String, List<String>> sectorKeywords;
+    private Map<String, List<String>> matchedKeywords; // 진로 텍스트에서 실제로 찾은 섹터별 키워드
     private List<WeightRule> weightRules;
     private int defaultN;
     private String notes;
@@ -0,0 +1,146 @@
+package com.hackathon.project.domain;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스트리밍으로 조금씩 도착하는 로드맵 JSON 텍스트를 논블로킹 파서에 흘려 넣고,
+ * 최상위 필드 값이 닫히는 즉시 (필드명, 값)을 sink로 넘긴다.
+ * coursePlan, extracurricularPlan은 배열 전체가 아니라 학기 원소 하나가 닫힐 때마다 넘긴다.
+ * 텍스트는 먼저 {@link LenientJsonFilter}를 거치므로 코드 펜스, 둥근 따옴표 등은 전체 응답 파싱과 같게 처리된다.
+ * 도중에 문법 오류가 나면 이후 구간은 넘기지 않는다. 전체 응답은 호출 측이 따로 모아 다시 파싱한다.
+ */
+@Slf4j
+final class RoadmapSectionParser {
+
+    private static final Set<String> PER_ELEMENT_FIELDS = Set.of("coursePlan", "extracurricularPlan");
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final BiConsumer<String, JsonNode> sink;
+    private final LenientJsonFilter filter = new LenientJsonFilter();
+
+    private boolean finished;
+    private boolean failed;
+    private int depth;              // 현재 열린 객체/배열 수 (루트 객체 안이 1)
+    private boolean inElementArray; // coursePlan 등 원소 단위로 넘기는 배열 안
+    private String field;
+    private TokenBuffer capture;    // 닫히기를 기다리는 값의 토큰
+    private int captureDepth;       // 캡처를 시작한 깊이. 다시 이 깊이가 되면 값이 닫힌 것이다.
+
+    RoadmapSectionParser(ObjectMapper objectMapper, BiConsumer<String, JsonNode> sink) {
+        this.objectMapper = objectMapper;
+        this.sink = sink;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    void feed(String text) {
+        if (finished || failed) {
+            return;
+        }
+        String filtered = filter.apply(text);
+        if (filtered.isEmpty()) {
+            return;
+        }
+        byte[] bytes = filtered.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            for (JsonToken token = parser.nextToken();
+                token != null && token != JsonToken.NOT_AVAILABLE && !finished;
+                token = parser.nextToken()) {
+                onToken(token);
+            }
+        } catch (IOException e) {
+            failed = true;
+            log.debug("로드맵 스트림 점진 파싱 중단: {}", e.getMessage());
+        }
+    }
+
+    private void onToken(JsonToken token) throws IOException {
+        if (capture != null) {
+            capture.copyCurrentEvent(parser);
+            moveDepth(token);
+            if (depth == captureDepth) {
+                emit();
+            }
+            return;
+        }
+
+        if (depth == 0) {
+            if (token == JsonToken.START_OBJECT) {
+                depth = 1;
+            }
+            return;
+        }
+
+        if (inElementArray) {
+            if (token == JsonToken.END_ARRAY) {
+                inElementArray = false;
+                depth--;
+            } else {
+                startCapture(token);
+            }
+            return;
+        }
+
+        // 루트 객체 바로 아래
+        switch (token) {
+            case FIELD_NAME -> field = parser.currentName();
+            case END_OBJECT -> {
+                depth = 0;
+                finished = true;
+            }
+            case START_ARRAY -> {
+                if (PER_ELEMENT_FIELDS.contains(field)) {
+                    inElementArray = true;
+                    depth++;
+                } else {
+                    startCapture(token);
+                }
+            }
+            default -> startCapture(token);
+        }
+    }
+
+    private void startCapture(JsonToken token) throws IOException {
+        capture = new TokenBuffer(parser);
+        capture.copyCurrentEvent(parser);
+        captureDepth = depth;
+        moveDepth(token);
+        if (depth == captureDepth) {
+            emit(); // 스칼라 값은 토큰 하나로 끝난다.
+        }
+    }
+
+    private void moveDepth(JsonToken token) {
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+    }
+
+    private void emit() throws IOException {
+        JsonNode value;
+        try (JsonParser captured = capture.asParser(objectMapper)) {
+            value = objectMapper.readTree(captured);
+        }
+        capture = null;
+        sink.accept(field, value);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hackathon.project.domain.Subject;
+
+/**
+ * 일괄 추천 요청이 최대 건수를 넘거나 비어 있는 원소를 포함할 때 던진다. 응답을 쓰기 전에 검사한다.
+ */
+public class SubjectBatchRejectedException extends RuntimeException {
+
+    public SubjectBatchRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,306 @@
+package com.hackathon.project.domain.Subject;
+
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.SubjectSummary;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import lombok.Getter;
+
+/**
+ * 과목명 기준으로 중복 제거된 교과목 카탈로그의 불변 스냅샷.
+ * 과목 1건을 객체로 두지 않고 컬럼별 원시 타입 배열(struct-of-arrays)로 저장하며,
+ * 반복되는 문자열 컬럼(이수구분, 선택영역, 학과, 강의언어, 강좌유형)은 사전 id로 인코딩한다.
+ * 한 번 만들어지면 변경되지 않으며, 갱신은 {@link SubjectCatalogService}가 새 인스턴스로 교체한다.
+ */
+public class SubjectCatalog {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_ID = -1;
+    private static final byte ONLINE = 1;
+    private static final byte CREDIT_EXCHANGE = 1 << 1;
+
+    @Getter
+    private final Instant loadedAt;
+    private final int size;
+
+    // 응답 요약용 컬럼
+    private final String[] courseCode;
+    private final String[] courseCodeKey; // trim 결과, 이수 과목 비교용
+    private final String[] courseName;
+    private final String[] schedule;
+    private final String[] classroom;
+    private final double[] credits;       // null은 NaN
+    private final int[] gradeLevel;       // null은 NULL_INT
+    private final int[] theoryHours;
+    private final int[] practiceHours;
+
+    // 사전 인코딩 컬럼, null은 NULL_ID
+    private final String[] dictionary;
+    private final int[] courseType;
+    private final int[] selectedArea;
+    private final int[] offeringDepartmentMajor;
+    private final int[] hostDepartment;
+    private final int[] lectureLanguage;
+    private final int[] courseFormat;
+
+    // 점수 규칙: 섹터 무관 규칙 비트와 필드 그룹별 섹터 비트마스크
+    private final int[] staticRules;
+    private final int[] courseNameSectors;
+    private final int[] areaOrTypeSectors;
+    private final int[] notesSectors;
+    private final int[] departmentSectors;
+    private final int[] anyFieldSectors;
+    private final byte[] flags;
+
+    // 과목명 오름차순(null은 마지막, 동명은 적재 순서) 순위와 그 역매핑
+    private final int[] nameRank;
+    private final int[] indexByNameRank;
+    // 섹터와 무관한 기본 점수(staticRules) 기준 정렬 키, 내림차순
+    private final long[] baselineRanking;
+    @Getter
+    private final SubjectKeywordIndex keywordIndex;
+
+    private SubjectCatalog(List<Subject> source, SubjectKeywordMatcher matcher) {
+        this.loadedAt = Instant.now();
+        this.size = source.size();
+        this.courseCode = new String[size];
+        this.courseCodeKey = new String[size];
+        this.courseName = new String[size];
+        this.schedule = new String[size];
+        this.classroom = new String[size];
+        this.credits = new double[size];
+        this.gradeLevel = new int[size];
+        this.theoryHours = new int[size];
+        this.practiceHours = new int[size];
+        this.courseType = new int[size];
+        this.selectedArea = new int[size];
+        this.offeringDepartmentMajor = new int[size];
+        this.hostDepartment = new int[size];
+        this.lectureLanguage = new int[size];
+        this.courseFormat = new int[size];
+        this.staticRules = new int[size];
+        this.courseNameSectors = new int[size];
+        this.areaOrTypeSectors = new int[size];
+        this.notesSectors = new int[size];
+        this.departmentSectors = new int[size];
+        this.anyFieldSectors = new int[size];
+        this.flags = new byte[size];
+
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            load(i, source.get(i), matcher, ids);
+        }
+        this.dictionary = new String[ids.size()];
+        ids.forEach((value, id) -> dictionary[id] = value);
+
+        this.indexByNameRank = IntStream.range(0, size)
+            .boxed()
+            .sorted(Comparator.comparing((Integer i) -> courseName[i],
+                Comparator.nullsLast(String::compareTo)))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        this.nameRank = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            nameRank[indexByNameRank[rank]] = rank;
+        }
+
+        this.baselineRanking = new long[size];
+        for (int i = 0; i < size; i++) {
+            baselineRanking[i] = rankKey(i, SubjectRule.score(staticRules[i]));
+        }
+        Arrays.sort(baselineRanking);
+        reverse(baselineRanking);
+
+        this.keywordIndex = SubjectKeywordIndex.build(
+            courseNameSectors, areaOrTypeSectors, notesSectors, departmentSectors);
+    }
+
+    public static SubjectCatalog of(List<Subject> source, SubjectKeywordMatcher matcher) {
+        return new SubjectCatalog(source, matcher);
+    }
+
+    private void load(int i, Subject subject, SubjectKeywordMatcher matcher, Map<String, Integer> ids) {
+        courseCode[i] = subject.getCourseCode();
+        courseCodeKey[i] = subject.getCourseCode() == null ? "" : subject.getCourseCode().trim();
+        courseName[i] = subject.getCourseName();
+        schedule[i] = subject.getSchedule();
+        classroom[i] = subject.getClassroom();
+        credits[i] = subject.getCredits() == null ? Double.NaN : subject.getCredits();
+        gradeLevel[i] = orNull(subject.getGradeLevel());
+        theoryHours[i] = orNull(subject.getTheoryHours());
+        practiceHours[i] = orNull(subject.getPracticeHours());
+        courseType[i] = encode(subject.getCourseType(), ids);
+        selectedArea[i] = encode(subject.getSelectedArea(), ids);
+        offeringDepartmentMajor[i] = encode(subject.getOfferingDepartmentMajor(), ids);
+        hostDepartment[i] = encode(subject.getHostDepartment(), ids);
+        lectureLanguage[i] = encode(subject.getLectureLanguage(), ids);
+        courseFormat[i] = encode(subject.getCourseFormat(), ids);
+
+        long nameGroups = matcher.match(subject.getCourseName());
+        long selectedAreaGroups = matcher.match(subject.getSelectedArea());
+        long courseTypeGroups = matcher.match(subject.getCourseType());
+        long notesGroups = matcher.match(subject.getNotes());
+        long departmentGroups = matcher.match(subject.getOfferingDepartmentMajor())
+            | matcher.match(subject.getHostDepartment());
+        long formatGroups = matcher.match(subject.getCourseFormat());
+        long languageGroups = matcher.match(subject.getLectureLanguage());
+
+        int rules = 0;
+        if ((notesGroups & SubjectKeywordMatcher.PROJECT) != 0) {
+            rules |= SubjectRule.NOTES.bit();
+        }
+        if (isAdvancedCourseCode(subject.getCourseCode())) {
+            rules |= SubjectRule.ADVANCED_CODE.bit();
+        }
+        if (gradeLevel[i] == 3 || gradeLevel[i] == 4) {
+            rules |= SubjectRule.UPPER_GRADE.bit();
+        }
+        if (practiceHours[i] != NULL_INT && theoryHours[i] != NULL_INT
+            && practiceHours[i] >= theoryHours[i] && practiceHours[i] > 0) {
+            rules |= SubjectRule.PRACTICE_HEAVY.bit();
+        }
+        if ((formatGroups & SubjectKeywordMatcher.PRACTICE) != 0) {
+            rules |= SubjectRule.PRACTICE_FORMAT.bit();
+        }
+        if (credits[i] >= 3.0) {
+            rules |= SubjectRule.CREDITS.bit();
+        }
+        if ((languageGroups & SubjectKeywordMatcher.ENGLISH) != 0) {
+            rules |= SubjectRule.ENGLISH.bit();
+        }
+        staticRules[i] = rules;
+
+        courseNameSectors[i] = SubjectKeywordMatcher.sectors(nameGroups);
+        areaOrTypeSectors[i] = SubjectKeywordMatcher.sectors(selectedAreaGroups | courseTypeGroups);
+        notesSectors[i] = SubjectKeywordMatcher.sectors(notesGroups);
+        departmentSectors[i] = SubjectKeywordMatcher.sectors(departmentGroups);
+        anyFieldSectors[i] = SubjectKeywordMatcher.sectors(nameGroups | selectedAreaGroups | notesGroups);
+
+        byte flag = 0;
+        if (subject.getCyberLecture() != null || (formatGroups & SubjectKeywordMatcher.BLENDED) != 0) {
+            flag |= ONLINE;
+        }
+        if (subject.getCreditExchangeAvailability() != null) {
+            flag |= CREDIT_EXCHANGE;
+        }
+        flags[i] = flag;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String courseCodeKey(int index) {
+        return courseCodeKey[index];
+    }
+
+    /**
+     * 요청의 섹터 비트마스크에 대해 index번째 과목이 만족하는 규칙 비트를 계산한다.
+     */
+    public int rules(int index, int sectorMask) {
+        int rules = staticRules[index];
+        if ((courseNameSectors[index] & sectorMask) != 0) {
+            rules |= SubjectRule.COURSE_NAME.bit();
+        }
+        if ((areaOrTypeSectors[index] & sectorMask) != 0) {
+            rules |= SubjectRule.AREA_OR_TYPE.bit();
+        }
+        if ((notesSectors[index] & sectorMask) != 0) {
+            rules |= SubjectRule.NOTES.bit();
+        }
+        if ((departmentSectors[index] & sectorMask) != 0) {
+            rules |= SubjectRule.DEPARTMENT.bit();
+        }
+        if ((anyFieldSectors[index] & sectorMask) != 0) {
+            if ((flags[index] & ONLINE) != 0) {
+                rules |= SubjectRule.ONLINE_KEYWORD.bit();
+            }
+            if ((flags[index] & CREDIT_EXCHANGE) != 0) {
+                rules |= SubjectRule.CREDIT_EXCHANGE_KEYWORD.bit();
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * 응답용 요약 객체. 최종 선택된 과목에 대해서만 만든다.
+     */
+    public SubjectSummary summary(int index) {
+        return new SubjectSummary(
+            courseCode[index],
+            courseName[index],
+            decode(courseType[index]),
+            decode(selectedArea[index]),
+            Double.isNaN(credits[index]) ? null : credits[index],
+            gradeLevel[index] == NULL_INT ? null : gradeLevel[index],
+            decode(offeringDepartmentMajor[index]),
+            decode(hostDepartment[index]),
+            decode(lectureLanguage[index]),
+            decode(courseFormat[index]),
+            schedule[index],
+            classroom[index]
+        );
+    }
+
+    /**
+     * 점수 내림차순, 과목명 오름차순 정렬과 같은 순서를 갖는 정렬 키.
+     * 값이 클수록 앞 순위이며 순위가 유일하므로 키로부터 과목 위치를 되찾을 수 있다.
+     */
+    public long rankKey(int index, int score) {
+        return ((long) score << 32) | (Integer.MAX_VALUE - nameRank[index]);
+    }
+
+    public int indexOf(long rankKey) {
+        return indexByNameRank[Integer.MAX_VALUE - (int) rankKey];
+    }
+
+    public static int scoreOf(long rankKey) {
+        return (int) (rankKey >>> 32);
+    }
+
+    /**
+     * 기본 점수 기준 정렬 키(내림차순)의 i번째 값.
+     */
+    public long baselineKey(int i) {
+        return baselineRanking[i];
+    }
+
+    private String decode(int id) {
+        return id == NULL_ID ? null : dictionary[id];
+    }
+
+    private static int encode(String value, Map<String, Integer> ids) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        return ids.computeIfAbsent(value, key -> ids.size());
+    }
+
+    private static int orNull(Integer value) {
+        return value == null ? NULL_INT : value;
+    }
+
+    private static boolean isAdvancedCourseCode(String courseCode) {
+        if (courseCode == null || courseCode.isBlank()) {
+            return false;
+        }
+        String digits = courseCode.replaceAll("\\D", "");
+        if (digits.isEmpty()) {
+            return false;
+        }
+        char first = digits.charAt(0);
+        return first == '3' || first == '4';
+    }
+
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.hackathon.project.domain.Subject;
+
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 추천 점수 계산에 쓰는 과목 카탈로그를 메모리에 들고 있는 서비스.
+ * 최초 조회 시 한 번만 DB에서 적재하고, 이후 요청은 스냅샷만 읽는다.
+ * {@link #refresh()}는 새 스냅샷을 완성한 뒤 참조를 한 번에 교체하므로 읽는 쪽은 항상 완전한 카탈로그를 본다.
+ * 외부 요청으로는 재적재하지 않고, subject.catalog.refresh-interval 주기로만 다시 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubjectCatalogService {
+
+    private final SubjectRepository subjectRepository;
+    private final SubjectKeywordMatcher subjectKeywordMatcher;
+    private final AtomicReference<SubjectCatalog> catalog = new AtomicReference<>();
+
+    public SubjectCatalog getCatalog() {
+        SubjectCatalog current = catalog.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = catalog.get();
+            if (current == null) {
+                current = load();
+                catalog.set(current);
+            }
+            return current;
+        }
+    }
+
+    // 아직 한 번도 적재하지 않았으면 첫 조회 때 적재되므로 건너뛴다. 실패하면 기존 스냅샷을 그대로 쓴다.
+    @Scheduled(initialDelayString = "${subject.catalog.refresh-interval:6h}",
+        fixedDelayString = "${subject.catalog.refresh-interval:6h}")
+    void scheduledRefresh() {
+        if (catalog.get() == null) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("과목 카탈로그 주기 재적재 실패, 기존 스냅샷 유지", e);
+        }
+    }
+
+    public synchronized SubjectCatalog refresh() {
+        SubjectCatalog loaded = load();
+        catalog.set(loaded);
+        return loaded;
+    }
+
+    private SubjectCatalog load() {
+        long start = System.nanoTime();
+        SubjectCatalog loaded = SubjectCatalog.of(
+            subjectRepository.findDistinctByCourseName(), subjectKeywordMatcher);
+        log.info("과목 카탈로그 적재 완료: {}건, {}ms",
+            loaded.size(), (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+}
@@ -1,22 +1,35 @@
 package com.hackathon.project.domain.Subject;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreRequestDTO;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO;
 import com.hackathon.project.global.dto.ApiResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/subjects")
 public class SubjectController {
 
     private final SubjectRecommendationService subjectRecommendationService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${subject.score.batch.max-size:200}")
+    private int maxBatchSize;
 
     @PostMapping("/score")
     public ResponseEntity<ApiResponse<SubjectScoreResponseDTO>> scoreSubjects(
@@ -26,4 +39,56 @@ public class SubjectController {
             .contentType(MediaType.APPLICATION_JSON)
             .body(ApiResponse.success(response));
     }
+
+    /**
+     * 여러 학생의 추천 요청을 한 번에 처리한다. 응답은 {"success":true,"data":[...]} 형태이며
+     * data 배열의 각 원소는 요청 순서대로 계산되는 즉시 기록된다.
+     * 건수 검사와 공통 랭킹 계산은 응답을 쓰기 전에 끝내므로 여기서 실패하면 일반 오류 응답이 나간다.
+     * 이후 한 학생의 계산이 실패하면 그 자리에 {"index":i,"error":...}를 쓰고 나머지를 계속 처리한다.
+     */
+    @PostMapping("/score/batch")
+    public ResponseEntity<StreamingResponseBody> scoreSubjectsBatch(
+        @RequestBody List<SubjectScoreRequestDTO> requestDTOs) {
+        validateBatch(requestDTOs);
+        List<Supplier<SubjectScoreResponseDTO>> responses = subjectRecommendationService.prepareBatch(requestDTOs);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeArrayFieldStart("data");
+                for (int i = 0; i < responses.size(); i++) {
+                    objectMapper.writeValue(generator, scoreOrError(responses.get(i), i));
+                    generator.flush();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    private void validateBatch(List<SubjectScoreRequestDTO> requestDTOs) {
+        if (requestDTOs == null) {
+            return;
+        }
+        if (requestDTOs.size() > maxBatchSize) {
+            throw new SubjectBatchRejectedException(
+                "일괄 추천은 최대 %d건까지 가능합니다: %d건".formatted(maxBatchSize, requestDTOs.size()));
+        }
+        if (requestDTOs.contains(null)) {
+            throw new SubjectBatchRejectedException("일괄 추천 요청에 비어 있는 원소가 있습니다.");
+        }
+    }
+
+    // 한 학생의 계산 실패가 이미 쓴 응답을 깨뜨리지 않도록 원소 단위 오류로 바꾼다.
+    private Object scoreOrError(Supplier<SubjectScoreResponseDTO> response, int index) {
+        try {
+            return response.get();
+        } catch (RuntimeException e) {
+            log.warn("일괄 추천 {}번째 계산 실패", index, e);
+            return Map.of("index", index, "error", "과목 추천 계산에 실패했습니다.");
+        }
+    }
 }
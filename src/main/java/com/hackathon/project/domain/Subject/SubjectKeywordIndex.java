@@ -0,0 +1,65 @@
+package com.hackathon.project.domain.Subject;
+
+/**
+ * 섹터 → 과목 위치 역색인. 필드 그룹마다 섹터별로 정렬된 과목 위치 배열(postings)을 가진다.
+ * 요청 섹터에 걸리는 과목만 후보로 뽑아 전체 카탈로그를 훑지 않도록 하는 용도다.
+ */
+public class SubjectKeywordIndex {
+
+    private final int size;
+    private final int[][][] postings; // [필드 그룹][섹터] -> 과목 위치 오름차순
+
+    private SubjectKeywordIndex(int size, int[][][] postings) {
+        this.size = size;
+        this.postings = postings;
+    }
+
+    /**
+     * 필드 그룹별 과목 섹터 비트마스크 컬럼으로 역색인을 만든다.
+     */
+    public static SubjectKeywordIndex build(int[]... sectorsByGroup) {
+        int size = sectorsByGroup.length == 0 ? 0 : sectorsByGroup[0].length;
+        int[][][] postings = new int[sectorsByGroup.length][Integer.SIZE][];
+        for (int group = 0; group < sectorsByGroup.length; group++) {
+            int[] sectors = sectorsByGroup[group];
+            int[] counts = new int[Integer.SIZE];
+            for (int i = 0; i < size; i++) {
+                for (int bits = sectors[i]; bits != 0; bits &= bits - 1) {
+                    counts[Integer.numberOfTrailingZeros(bits)]++;
+                }
+            }
+            int[][] bySector = postings[group];
+            for (int sector = 0; sector < Integer.SIZE; sector++) {
+                bySector[sector] = new int[counts[sector]];
+                counts[sector] = 0;
+            }
+            for (int i = 0; i < size; i++) {
+                for (int bits = sectors[i]; bits != 0; bits &= bits - 1) {
+                    int sector = Integer.numberOfTrailingZeros(bits);
+                    bySector[sector][counts[sector]++] = i;
+                }
+            }
+        }
+        return new SubjectKeywordIndex(size, postings);
+    }
+
+    /**
+     * 섹터 마스크 중 하나라도 어느 필드 그룹에 매칭된 과목 위치를 비트셋으로 반환한다.
+     * 이 집합 밖의 과목은 섹터 의존 규칙을 하나도 만족하지 않으므로 기본 점수만 갖는다.
+     */
+    public long[] candidates(int sectorMask) {
+        long[] candidates = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        for (int[][] bySector : postings) {
+            for (int bits = sectorMask; bits != 0; bits &= bits - 1) {
+                for (int index : bySector[Integer.numberOfTrailingZeros(bits)]) {
+                    candidates[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    public static boolean contains(long[] candidates, int index) {
+        return (candidates[index >>> 6] & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hackathon.project.domain.Subject;
+
+import com.hackathon.project.domain.Roadmap.WeightHintService;
+import com.hackathon.project.global.util.KeywordAutomaton;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 과목 필드 매칭용 키워드 오토마톤.
+ * 하위 비트는 {@link WeightHintService#getSectors()} 순서의 섹터,
+ * 상위 비트는 섹터와 무관한 프로젝트/실습/영어/혼합형 키워드 그룹이다.
+ */
+@Component
+public class SubjectKeywordMatcher {
+
+    public static final long PROJECT = 1L << 60;
+    public static final long PRACTICE = 1L << 61;
+    public static final long ENGLISH = 1L << 62;
+    public static final long BLENDED = 1L << 63;
+
+    private static final List<String> PROJECT_KEYWORDS = List.of("프로젝트", "실무", "응용");
+    private static final List<String> PRACTICE_KEYWORDS = List.of("프로젝트", "캡스톤", "실험", "실습");
+    private static final List<String> ENGLISH_KEYWORDS = List.of("영어", "English");
+    private static final List<String> BLENDED_KEYWORDS = List.of("혼합", "블렌디드");
+
+    private static final long SECTOR_BITS = 0xFFFF_FFFFL;
+
+    private final KeywordAutomaton automaton;
+
+    public SubjectKeywordMatcher(WeightHintService weightHintService) {
+        List<String> sectors = weightHintService.getSectors();
+        if (sectors.size() > Integer.SIZE) {
+            throw new IllegalStateException("섹터는 최대 32개까지 지원합니다: " + sectors.size());
+        }
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder();
+        for (int i = 0; i < sectors.size(); i++) {
+            builder.addAll(weightHintService.getSectorKeywords().get(sectors.get(i)), i);
+        }
+        this.automaton = builder
+            .addAll(PROJECT_KEYWORDS, Long.numberOfTrailingZeros(PROJECT))
+            .addAll(PRACTICE_KEYWORDS, Long.numberOfTrailingZeros(PRACTICE))
+            .addAll(ENGLISH_KEYWORDS, Long.numberOfTrailingZeros(ENGLISH))
+            .addAll(BLENDED_KEYWORDS, Long.numberOfTrailingZeros(BLENDED))
+            .build();
+    }
+
+    public long match(String text) {
+        return automaton.match(text);
+    }
+
+    /**
+     * 매칭 결과에서 섹터 비트만 추린다.
+     */
+    public static int sectors(long groups) {
+        return (int) (groups & SECTOR_BITS);
+    }
+}
@@ -0,0 +1,133 @@
+package com.hackathon.project.domain.Subject;
+
+import com.hackathon.project.global.util.LongTopK;
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그에서 섹터 마스크 기준 상위 과목을 골라 정렬 키 배열로 돌려준다.
+ * 반환 값은 {@link SubjectCatalog#rankKey(int, int)} 형식의 키를 내림차순으로 담는다.
+ * 병렬 모드를 켜면 카탈로그가 임계치 이상일 때 후보 채점을 전용 ForkJoinPool에서 구간별로 나눠 수행한다.
+ */
+@Slf4j
+@Component
+public class SubjectRanker {
+
+    private final int parallelThreshold;
+    private final int chunkWords;
+    private final ForkJoinPool pool;
+
+    public SubjectRanker(
+        @Value("${subject.scoring.parallel.enabled:false}") boolean parallelEnabled,
+        @Value("${subject.scoring.parallel.threshold:50000}") int parallelThreshold,
+        @Value("${subject.scoring.parallel.chunk-size:8192}") int chunkSize,
+        @Value("${subject.scoring.parallel.parallelism:0}") int parallelism) {
+        this.parallelThreshold = parallelThreshold;
+        this.chunkWords = Math.max(1, chunkSize / Long.SIZE);
+        // 톰캣 요청 스레드나 공용 풀과 경쟁하지 않도록 전용 풀을 쓴다. 0이면 코어 수의 절반.
+        this.pool = parallelEnabled
+            ? new ForkJoinPool(parallelism > 0
+                ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2))
+            : null;
+        if (pool != null) {
+            log.info("과목 병렬 채점 활성화: parallelism={}, threshold={}", pool.getParallelism(), parallelThreshold);
+        }
+    }
+
+    public long[] rank(SubjectCatalog catalog, int sectorMask, Set<String> excludedCodes, int limit) {
+        int capacity = Math.max(1, Math.min(limit, catalog.size()));
+
+        // 1) 요청 섹터의 역색인 후보만 전체 규칙으로 점수를 매긴다.
+        long[] candidates = catalog.getKeywordIndex().candidates(sectorMask);
+        LongTopK top;
+        if (pool != null && catalog.size() >= parallelThreshold) {
+            top = pool.invoke(new ScoreTask(
+                catalog, candidates, sectorMask, excludedCodes, capacity, 0, candidates.length));
+        } else {
+            top = new LongTopK(capacity);
+            scoreCandidates(catalog, candidates, sectorMask, excludedCodes, 0, candidates.length, top);
+        }
+
+        // 2) 나머지 과목은 기본 점수가 곧 최종 점수이므로 미리 정렬된 순서대로 힙이 더 이상 바뀌지 않을 때까지만 본다.
+        for (int i = 0; i < catalog.size(); i++) {
+            long key = catalog.baselineKey(i);
+            if (top.isFull() && key <= top.min()) {
+                break;
+            }
+            int index = catalog.indexOf(key);
+            if (SubjectKeywordIndex.contains(candidates, index)
+                || excludedCodes.contains(catalog.courseCodeKey(index))) {
+                continue;
+            }
+            top.offer(key);
+        }
+
+        return top.toSortedArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private static void scoreCandidates(SubjectCatalog catalog, long[] candidates, int sectorMask,
+        Set<String> excludedCodes, int fromWord, int toWord, LongTopK top) {
+        for (int word = fromWord; word < toWord; word++) {
+            for (long bits = candidates[word]; bits != 0; bits &= bits - 1) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (excludedCodes.contains(catalog.courseCodeKey(index))) {
+                    continue;
+                }
+                top.offer(catalog.rankKey(index, SubjectRule.score(catalog.rules(index, sectorMask))));
+            }
+        }
+    }
+
+    // 후보 비트셋을 word 구간으로 나눠 구간별 상위 K를 구한 뒤 합친다.
+    private class ScoreTask extends RecursiveTask<LongTopK> {
+
+        private final SubjectCatalog catalog;
+        private final long[] candidates;
+        private final int sectorMask;
+        private final Set<String> excludedCodes;
+        private final int capacity;
+        private final int fromWord;
+        private final int toWord;
+
+        ScoreTask(SubjectCatalog catalog, long[] candidates, int sectorMask, Set<String> excludedCodes,
+            int capacity, int fromWord, int toWord) {
+            this.catalog = catalog;
+            this.candidates = candidates;
+            this.sectorMask = sectorMask;
+            this.excludedCodes = excludedCodes;
+            this.capacity = capacity;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected LongTopK compute() {
+            if (toWord - fromWord <= chunkWords) {
+                LongTopK top = new LongTopK(capacity);
+                scoreCandidates(catalog, candidates, sectorMask, excludedCodes, fromWord, toWord, top);
+                return top;
+            }
+            int mid = (fromWord + toWord) >>> 1;
+            ScoreTask left = new ScoreTask(
+                catalog, candidates, sectorMask, excludedCodes, capacity, fromWord, mid);
+            ScoreTask right = new ScoreTask(
+                catalog, candidates, sectorMask, excludedCodes, capacity, mid, toWord);
+            left.fork();
+            LongTopK merged = right.compute();
+            merged.addAll(left.join());
+            return merged;
+        }
+    }
+}
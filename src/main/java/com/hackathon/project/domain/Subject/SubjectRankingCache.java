@@ -0,0 +1,60 @@
+package com.hackathon.project.domain.Subject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 섹터 마스크별 정렬 결과 캐시.
+ * 이수 과목 필터를 적용하기 전의 상위 랭킹(정렬 키 배열)을 저장하며, 카탈로그 스냅샷이 바뀌면 전부 버린다.
+ */
+@Component
+public class SubjectRankingCache {
+
+    private final int depth;
+    private final Map<Integer, long[]> rankings;
+    private SubjectCatalog catalog;
+
+    public SubjectRankingCache(
+        @Value("${subject.ranking-cache.max-entries:256}") int maxEntries,
+        @Value("${subject.ranking-cache.depth:200}") int depth) {
+        this.depth = depth;
+        this.rankings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, long[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 저장할 랭킹 길이. 요청 topN보다 짧으면 topN만큼 계산한다.
+     */
+    public int depth(int topN) {
+        return Math.max(depth, topN);
+    }
+
+    public long[] get(SubjectCatalog catalog, int sectorMask, Supplier<long[]> loader) {
+        synchronized (this) {
+            if (this.catalog != catalog) {
+                rankings.clear();
+                this.catalog = catalog;
+            }
+            long[] cached = rankings.get(sectorMask);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 계산은 락 밖에서 수행한다. 동시에 같은 키를 계산하더라도 결과는 동일하다.
+        long[] loaded = loader.get();
+        synchronized (this) {
+            if (this.catalog == catalog) {
+                rankings.put(sectorMask, loaded);
+            }
+        }
+        return loaded;
+    }
+}
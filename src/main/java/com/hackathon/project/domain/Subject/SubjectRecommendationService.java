@@ -5,15 +5,14 @@ import com.hackathon.project.domain.Roadmap.dto.WeightHintResponseDTO;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreRequestDTO;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO;
 import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.ScoredSubject;
-import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.SubjectSummary;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,171 +20,116 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SubjectRecommendationService {
 
-    private static final List<String> PROJECT_KEYWORDS = List.of("프로젝트", "실무", "응용");
-    private static final List<String> PRACTICE_KEYWORDS = List.of("프로젝트", "캡스톤", "실험", "실습");
-
-    private final SubjectRepository subjectRepository;
+    private final SubjectCatalogService subjectCatalogService;
     private final WeightHintService weightHintService;
+    private final SubjectRanker subjectRanker;
+    private final SubjectRankingCache subjectRankingCache;
 
     public SubjectScoreResponseDTO scoreSubjects(SubjectScoreRequestDTO requestDTO) {
         WeightHintResponseDTO hints =
             weightHintService.buildWeightHints(requestDTO.getCareerText());
-        Set<String> keywords = flattenKeywords(hints.getSectorKeywords());
-        Set<String> completedCodes = normalizeCodes(requestDTO.getCompletedCourseCodes());
+        int sectorMask = weightHintService.toSectorMask(hints.getMatchedSectors());
+        int topN = resolveTopN(requestDTO, hints);
 
-        List<ScoredSubject> scored = new ArrayList<>();
-        for (Subject subject : subjectRepository.findDistinctByCourseName()) {
-            if (completedCodes.contains(normalizeCode(subject.getCourseCode()))) {
-                continue;
-            }
-            scored.add(scoreSubject(subject, keywords));
-        }
+        // 섹터 조합별 랭킹은 학생과 무관하므로 캐시에서 꺼내고, 이수 과목만 걸러 topN개를 채운다.
+        SubjectCatalog catalog = subjectCatalogService.getCatalog();
+        long[] ranking = cachedRanking(catalog, sectorMask, topN);
+        return respond(catalog, ranking, requestDTO, hints, sectorMask, topN);
+    }
 
-        scored.sort(Comparator
-            .comparingInt(ScoredSubject::getScore).reversed()
-            .thenComparing(s -> s.getSubject().getCourseName(), Comparator.nullsLast(String::compareTo)));
+    /**
+     * 여러 학생의 요청을 한 번에 계산할 준비를 한다.
+     * 섹터 조합이 같은 요청끼리 묶어 랭킹을 한 번만 구하고(같은 진로 텍스트는 섹터 매칭도 한 번),
+     * 학생별 응답은 반환된 목록의 원소를 꺼낼 때 하나씩 계산해 전체 응답을 메모리에 모으지 않는다.
+     * 공통 준비 단계의 실패는 여기서 바로 던지므로 응답을 쓰기 전에 드러난다.
+     */
+    public List<Supplier<SubjectScoreResponseDTO>> prepareBatch(List<SubjectScoreRequestDTO> requestDTOs) {
+        if (requestDTOs == null || requestDTOs.isEmpty()) {
+            return List.of();
+        }
+        SubjectCatalog catalog = subjectCatalogService.getCatalog();
+        int count = requestDTOs.size();
+        WeightHintResponseDTO[] hints = new WeightHintResponseDTO[count];
+        int[] sectorMasks = new int[count];
+        int[] topNs = new int[count];
+
+        Map<String, WeightHintResponseDTO> hintsByText = new HashMap<>();
+        Map<Integer, Integer> depthByMask = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            SubjectScoreRequestDTO requestDTO = requestDTOs.get(i);
+            hints[i] = hintsByText.computeIfAbsent(requestDTO.getCareerText(),
+                weightHintService::buildWeightHints);
+            sectorMasks[i] = weightHintService.toSectorMask(hints[i].getMatchedSectors());
+            topNs[i] = resolveTopN(requestDTO, hints[i]);
+            depthByMask.merge(sectorMasks[i], topNs[i], Math::max);
+        }
+
+        Map<Integer, long[]> rankingByMask = new HashMap<>();
+        depthByMask.forEach((sectorMask, topN) ->
+            rankingByMask.put(sectorMask, cachedRanking(catalog, sectorMask, topN)));
+
+        List<Supplier<SubjectScoreResponseDTO>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            responses.add(() -> respond(catalog, rankingByMask.get(sectorMasks[index]),
+                requestDTOs.get(index), hints[index], sectorMasks[index], topNs[index]));
+        }
+        return responses;
+    }
 
-        int topN = requestDTO.getTopN() == null ? hints.getDefaultN() : requestDTO.getTopN();
-        if (topN < 1) {
-            topN = hints.getDefaultN();
-        }
+    private int resolveTopN(SubjectScoreRequestDTO requestDTO, WeightHintResponseDTO hints) {
+        Integer topN = requestDTO.getTopN();
+        return topN == null || topN < 1 ? hints.getDefaultN() : topN;
+    }
 
-        List<ScoredSubject> topScored =
-            scored.size() > topN ? scored.subList(0, topN) : scored;
+    private long[] cachedRanking(SubjectCatalog catalog, int sectorMask, int topN) {
+        return subjectRankingCache.get(catalog, sectorMask,
+            () -> subjectRanker.rank(catalog, sectorMask, Set.of(), subjectRankingCache.depth(topN)));
+    }
 
+    private SubjectScoreResponseDTO respond(SubjectCatalog catalog, long[] ranking,
+        SubjectScoreRequestDTO requestDTO, WeightHintResponseDTO hints, int sectorMask, int topN) {
+        Set<String> completedCodes = normalizeCodes(requestDTO.getCompletedCourseCodes());
+        long[] rankKeys = takeTop(catalog, ranking, completedCodes, topN);
+        if (rankKeys == null) {
+            rankKeys = subjectRanker.rank(catalog, sectorMask, completedCodes, topN);
+        }
         return new SubjectScoreResponseDTO(
             hints.getMatchedSectors(),
             topN,
-            topScored
-        );
-    }
-
-    private ScoredSubject scoreSubject(Subject subject, Set<String> keywords) {
-        int score = 0;
-        List<String> reasons = new ArrayList<>();
-
-        if (containsAny(subject.getCourseName(), keywords)) {
-            score += 10;
-            reasons.add("과목명 키워드 매칭");
-        }
-
-        if (containsAny(subject.getSelectedArea(), keywords) || containsAny(subject.getCourseType(), keywords)) {
-            score += 8;
-            reasons.add("선택영역/이수구분 키워드 매칭");
-        }
-
-        if (containsAny(subject.getNotes(), keywords) || containsAny(subject.getNotes(), PROJECT_KEYWORDS)) {
-            score += 6;
-            reasons.add("유의사항 키워드 매칭");
-        }
-
-        if (containsAny(subject.getOfferingDepartmentMajor(), keywords)
-            || containsAny(subject.getHostDepartment(), keywords)) {
-            score += 7;
-            reasons.add("개설/주관학과 매칭");
-        }
-
-        if (isAdvancedCourseCode(subject.getCourseCode())) {
-            score += 4;
-            reasons.add("전공 심화 학수번호");
-        }
-
-        if (subject.getGradeLevel() != null && (subject.getGradeLevel() == 3 || subject.getGradeLevel() == 4)) {
-            score += 4;
-            reasons.add("상위 학년 과목");
-        }
-
-        if (subject.getPracticeHours() != null && subject.getTheoryHours() != null
-            && subject.getPracticeHours() >= subject.getTheoryHours() && subject.getPracticeHours() > 0) {
-            score += 5;
-            reasons.add("실습 비중 높음");
-        }
-
-        if (containsAny(subject.getCourseFormat(), PRACTICE_KEYWORDS)) {
-            score += 6;
-            reasons.add("실습/프로젝트형 강좌");
-        }
-
-        if (subject.getCredits() != null && subject.getCredits() >= 3.0) {
-            score += 3;
-            reasons.add("3학점 이상");
-        }
-
-        if (containsAny(subject.getLectureLanguage(), List.of("영어", "English"))) {
-            score += 2;
-            reasons.add("영어 강의");
-        }
-
-        boolean isOnline = subject.getCyberLecture() != null
-            || containsAny(subject.getCourseFormat(), List.of("혼합", "블렌디드"));
-        if (isOnline && containsAnyAnyField(subject, keywords)) {
-            score += 2;
-            reasons.add("사이버/혼합형 + 키워드 매칭");
-        }
-
-        if (subject.getCreditExchangeAvailability() != null && containsAnyAnyField(subject, keywords)) {
-            score += 1;
-            reasons.add("학점교류 + 키워드 매칭");
-        }
-
-        SubjectSummary summary = new SubjectSummary(
-            subject.getCourseCode(),
-            subject.getCourseName(),
-            subject.getCourseType(),
-            subject.getSelectedArea(),
-            subject.getCredits(),
-            subject.getGradeLevel(),
-            subject.getOfferingDepartmentMajor(),
-            subject.getHostDepartment(),
-            subject.getLectureLanguage(),
-            subject.getCourseFormat(),
-            subject.getSchedule(),
-            subject.getClassroom()
+            toScoredSubjects(catalog, rankKeys, sectorMask)
         );
-
-        return new ScoredSubject(summary, score, reasons);
-    }
-
-    private boolean containsAnyAnyField(Subject subject, Set<String> keywords) {
-        return containsAny(subject.getCourseName(), keywords)
-            || containsAny(subject.getSelectedArea(), keywords)
-            || containsAny(subject.getNotes(), keywords);
     }
 
-    private boolean containsAny(String text, Iterable<String> keywords) {
-        if (text == null || text.isBlank()) {
-            return false;
-        }
-        String normalized = text.toLowerCase(Locale.ROOT);
-        for (String keyword : keywords) {
-            if (keyword == null || keyword.isBlank()) {
-                continue;
-            }
-            if (normalized.contains(keyword.toLowerCase(Locale.ROOT))) {
-                return true;
+    /**
+     * 캐시된 랭킹을 앞에서부터 훑으며 이수 과목을 제외하고 topN개를 고른다.
+     * 캐시된 구간이 카탈로그 일부뿐인데 topN을 채우지 못하면 null을 반환한다.
+     */
+    private long[] takeTop(SubjectCatalog catalog, long[] ranking, Set<String> completedCodes, int topN) {
+        long[] selected = new long[Math.min(topN, ranking.length)];
+        int count = 0;
+        for (int i = 0; i < ranking.length && count < selected.length; i++) {
+            if (!completedCodes.contains(catalog.courseCodeKey(catalog.indexOf(ranking[i])))) {
+                selected[count++] = ranking[i];
             }
         }
-        return false;
-    }
-
-    private boolean isAdvancedCourseCode(String courseCode) {
-        if (courseCode == null || courseCode.isBlank()) {
-            return false;
-        }
-        String digits = courseCode.replaceAll("\\D", "");
-        if (digits.isEmpty()) {
-            return false;
+        if (count < topN && ranking.length < catalog.size()) {
+            return null;
         }
-        char first = digits.charAt(0);
-        return first == '3' || first == '4';
+        return count == selected.length ? selected : Arrays.copyOf(selected, count);
     }
 
-    private Set<String> flattenKeywords(Map<String, List<String>> sectorKeywords) {
-        Set<String> keywords = new LinkedHashSet<>();
-        for (List<String> values : sectorKeywords.values()) {
-            keywords.addAll(values);
-        }
-        return keywords;
+    private List<ScoredSubject> toScoredSubjects(SubjectCatalog catalog, long[] rankKeys, int sectorMask) {
+        List<ScoredSubject> scored = new ArrayList<>(rankKeys.length);
+        for (long rankKey : rankKeys) {
+            int index = catalog.indexOf(rankKey);
+            scored.add(new ScoredSubject(
+                catalog.summary(index),
+                SubjectCatalog.scoreOf(rankKey),
+                SubjectRule.reasons(catalog.rules(index, sectorMask))
+            ));
+        }
+        return scored;
     }
 
     private Set<String> normalizeCodes(List<String> codes) {
@@ -0,0 +1,53 @@
+package com.hackathon.project.domain.Subject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 과목 추천 점수 규칙. 선언 순서(ordinal)가 규칙 비트 위치이자 사유 출력 순서다.
+ */
+public enum SubjectRule {
+
+    COURSE_NAME(10, "과목명 키워드 매칭"),
+    AREA_OR_TYPE(8, "선택영역/이수구분 키워드 매칭"),
+    NOTES(6, "유의사항 키워드 매칭"),
+    DEPARTMENT(7, "개설/주관학과 매칭"),
+    ADVANCED_CODE(4, "전공 심화 학수번호"),
+    UPPER_GRADE(4, "상위 학년 과목"),
+    PRACTICE_HEAVY(5, "실습 비중 높음"),
+    PRACTICE_FORMAT(6, "실습/프로젝트형 강좌"),
+    CREDITS(3, "3학점 이상"),
+    ENGLISH(2, "영어 강의"),
+    ONLINE_KEYWORD(2, "사이버/혼합형 + 키워드 매칭"),
+    CREDIT_EXCHANGE_KEYWORD(1, "학점교류 + 키워드 매칭");
+
+    private static final SubjectRule[] RULES = values();
+
+    private final int score;
+    private final String reason;
+
+    SubjectRule(int score, String reason) {
+        this.score = score;
+        this.reason = reason;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int score(int rules) {
+        int score = 0;
+        for (int bits = rules; bits != 0; bits &= bits - 1) {
+            score += RULES[Integer.numberOfTrailingZeros(bits)].score;
+        }
+        return score;
+    }
+
+    public static List<String> reasons(int rules) {
+        List<String> reasons = new ArrayList<>(Integer.bitCount(rules));
+        for (int bits = rules; bits != 0; bits &= bits - 1) {
+            reasons.add(RULES[Integer.numberOfTrailingZeros(bits)].reason);
+        }
+        return reasons;
+    }
+}
@@ -9,11 +9,15 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final WebExpressionAuthorizationManager LOCAL_ONLY =
+        new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')");
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -28,12 +32,13 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
 
-            // 모든 요청 허용 (방어는 다른 레이어에서)
+            // 모든 요청 허용 (방어는 다른 레이어에서). 단, 헬스 체크 외 actuator는 같은 호스트에서만 조회 가능
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(
                     "/actuator/health",
                     "/health"
                 ).permitAll()
+                .requestMatchers("/actuator/**").access(LOCAL_ONLY)
                 .anyRequest().permitAll()
             )
 
@@ -0,0 +1,36 @@
+package com.hackathon.project.global.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * StreamingResponseBody 응답(로드맵 SSE, 일괄 과목 추천)을 쓰는 MVC 비동기 실행기.
+ * 기본값인 applicationTaskExecutor(스레드 8개, 무제한 대기열)를 쓰면 Gemini를 기다리는 스트림 몇 개가
+ * 나머지 스트림을 대기열에 묶어 두므로, 응답마다 가상 스레드 하나를 쓰는 전용 실행기로 분리한다.
+ * 동시에 도는 Gemini 호출 수는 GeminiClient 커넥션 풀과 서킷 브레이커가, 일괄 추천 크기는
+ * subject.score.batch.max-size가 제한한다. 비동기 요청 제한 시간은 spring.mvc.async.request-timeout으로 정한다.
+ * 실행기를 빈으로 등록하면 applicationTaskExecutor 자동 구성이 빠지므로 여기서만 쓴다.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final SimpleAsyncTaskExecutor streamingExecutor = new SimpleAsyncTaskExecutor("mvc-stream-");
+
+    public WebAsyncConfig() {
+        streamingExecutor.setVirtualThreads(true);
+    }
+
+    // 순서를 지정하지 않은 설정은 자동 구성(WebMvcAutoConfigurationAdapter)보다 나중에 적용되어 실행기를 덮어쓴다.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamingExecutor.close();
+    }
+}
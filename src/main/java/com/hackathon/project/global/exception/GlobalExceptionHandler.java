@@ -0,0 +1,97 @@
+package com.hackathon.project.global.exception;
+
+import com.hackathon.project.domain.GeminiUnavailableException;
+import com.hackathon.project.domain.Roadmap.RoadmapJobNotFoundException;
+import com.hackathon.project.domain.Roadmap.RoadmapJobRejectedException;
+import com.hackathon.project.domain.Roadmap.TranscriptFileCountExceededException;
+import com.hackathon.project.domain.Roadmap.TranscriptFileParseException;
+import com.hackathon.project.domain.Roadmap.TranscriptParseRejectedException;
+import com.hackathon.project.domain.Subject.SubjectBatchRejectedException;
+import com.hackathon.project.global.dto.ApiResponse;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // 과부하 거절은 잠시 후 재시도하면 되므로 503과 Retry-After를 준다.
+    @ExceptionHandler(TranscriptParseRejectedException.class)
+    public ResponseEntity<ApiResponse<?>> handleParseRejected(TranscriptParseRejectedException e) {
+        log.warn("성적표 파싱 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.failure());
+    }
+
+    @ExceptionHandler(RoadmapJobRejectedException.class)
+    public ResponseEntity<ApiResponse<?>> handleRoadmapJobRejected(RoadmapJobRejectedException e) {
+        log.warn("로드맵 작업 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "5")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.failure());
+    }
+
+    // 서킷 브레이커가 열려 있으면 닫힐 때까지 남은 시간을 Retry-After로 알려준다.
+    @ExceptionHandler(GeminiUnavailableException.class)
+    public ResponseEntity<ApiResponse<?>> handleGeminiUnavailable(GeminiUnavailableException e) {
+        log.warn("Gemini 호출 차단: {}", e.getMessage());
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.failure());
+    }
+
+    @ExceptionHandler(RoadmapJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<?>> handleRoadmapJobNotFound(RoadmapJobNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.failure());
+    }
+
+    @ExceptionHandler(TranscriptFileCountExceededException.class)
+    public ResponseEntity<ApiResponse<?>> handleTranscriptFileCount(TranscriptFileCountExceededException e) {
+        log.warn("다중 성적표 업로드 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.failure());
+    }
+
+    // 어느 파일이 실패했는지 data.fileName으로 알려준다.
+    @ExceptionHandler(TranscriptFileParseException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleTranscriptFileParse(TranscriptFileParseException e) {
+        log.warn("다중 성적표 파싱 실패: {}", e.getFileName(), e.getCause());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.<Map<String, String>>builder()
+                .success(false)
+                .data(Map.of("fileName", String.valueOf(e.getFileName())))
+                .build());
+    }
+
+    @ExceptionHandler(SubjectBatchRejectedException.class)
+    public ResponseEntity<ApiResponse<?>> handleSubjectBatchRejected(SubjectBatchRejectedException e) {
+        log.warn("일괄 추천 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.failure());
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResponse<?>> handleMaxUploadSize(MaxUploadSizeExceededException e) {
+        log.warn("업로드 크기 초과: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ApiResponse.failure());
+    }
+}
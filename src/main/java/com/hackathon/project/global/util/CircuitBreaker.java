@@ -0,0 +1,153 @@
+package com.hackathon.project.global.util;
+
+import java.time.Duration;
+
+/**
+ * 최근 windowSize건의 호출 결과로 실패율과 느린 호출 비율을 보고 열리는 서킷 브레이커.
+ * <ul>
+ *   <li>CLOSED: 모든 호출을 허용한다. 최소 minimumCalls건이 쌓인 뒤 비율이 임계값 이상이면 OPEN.</li>
+ *   <li>OPEN: openDuration 동안 모든 호출을 바로 거절한다. 시간이 지나면 HALF_OPEN.</li>
+ *   <li>HALF_OPEN: halfOpenCalls건만 시험 삼아 허용한다. 하나라도 실패하면 다시 OPEN, 모두 성공하면 CLOSED.</li>
+ * </ul>
+ * {@link #tryAcquire()}로 허용받은 호출은 반드시 {@link #record(boolean, boolean)}로 결과를 알리거나,
+ * 호출 측 사정으로 결과 없이 끝났으면 {@link #release()}로 허용을 돌려줘야 한다.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int FAILED = 1;
+    private static final int SLOW = 2;
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // CLOSED 상태의 최근 결과 링 버퍼 (FAILED/SLOW 비트)
+    private final int[] window;
+    private int next;
+    private int size;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+        double slowCallRateThreshold, Duration openDuration, int halfOpenCalls) {
+        this.window = new int[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermitted = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    public synchronized void record(boolean failed, boolean slow) {
+        switch (state) {
+            case CLOSED -> {
+                add((failed ? FAILED : 0) | (slow ? SLOW : 0));
+                if (size >= minimumCalls
+                    && (failures >= failureRateThreshold * size || slowCalls >= slowCallRateThreshold * size)) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> {
+                if (failed || slow) {
+                    open();
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    state = State.CLOSED;
+                    clearWindow();
+                }
+            }
+            default -> {
+                // OPEN 전에 시작된 호출의 결과는 무시한다.
+            }
+        }
+    }
+
+    /**
+     * 결과를 기록하지 않고 허용만 돌려준다. 반열림 상태라면 시험 호출 자리가 다시 비어 다음 호출이 시험을 맡는다.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > halfOpenSucceeded) {
+            halfOpenPermitted--;
+        }
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            return State.HALF_OPEN; // 다음 tryAcquire에서 전환된다.
+        }
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 끝날 때까지 남은 시간. OPEN이 아니면 0.
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openNanos - (System.nanoTime() - openedAt)));
+    }
+
+    public synchronized double failureRate() {
+        return size == 0 ? 0.0 : (double) failures / size;
+    }
+
+    public synchronized double slowCallRate() {
+        return size == 0 ? 0.0 : (double) slowCalls / size;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        clearWindow();
+    }
+
+    private void add(int outcome) {
+        if (size == window.length) {
+            int evicted = window[next];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            size++;
+        }
+        window[next] = outcome;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+        next = (next + 1) % window.length;
+    }
+
+    private void clearWindow() {
+        next = 0;
+        size = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
@@ -0,0 +1,248 @@
+package com.hackathon.project.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 한 번에 찾는 Aho-Corasick 오토마톤.
+ * 키워드마다 최대 64개의 그룹(섹터 등)을 비트로 지정할 수 있고,
+ * 텍스트를 한 번만 훑으면서 매칭된 그룹 비트마스크나 매칭된 키워드와 그룹 목록을 돌려준다.
+ * 대소문자는 구분하지 않으며 그룹 비트마스크 매칭({@link #match})은 객체를 할당하지 않는다.
+ */
+public final class KeywordAutomaton {
+
+    private final int[] edgeStart;     // 상태별 전이 구간 시작 (CSR)
+    private final char[] edgeChars;    // 상태별로 정렬된 전이 문자
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final long[] output;       // 실패 링크를 따라 누적한 그룹 마스크
+    private final int[] keywordAt;     // 상태에서 끝나는 키워드 id, 없으면 -1
+    private final int[] dictionaryLink; // 실패 링크 중 가장 가까운 키워드 종료 상태, 없으면 0
+    private final String[] keywords;   // 키워드 id -> 처음 넣은 표기
+    private final long[] keywordGroups; // 키워드 id -> 그룹 마스크
+
+    private KeywordAutomaton(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] fail,
+        long[] output, int[] keywordAt, int[] dictionaryLink, String[] keywords, long[] keywordGroups) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+        this.keywordAt = keywordAt;
+        this.dictionaryLink = dictionaryLink;
+        this.keywords = keywords;
+        this.keywordGroups = keywordGroups;
+    }
+
+    /**
+     * 텍스트에서 찾은 키워드와 그 키워드가 속한 그룹.
+     * 대소문자만 다른 키워드는 하나로 보며, 처음 빌더에 넣은 표기로 돌려준다.
+     */
+    public record Hit(String keyword, int group) {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 텍스트에 포함된 모든 키워드의 그룹 비트를 OR 해서 반환한다. 매칭이 없거나 null이면 0.
+     */
+    public long match(CharSequence text) {
+        if (text == null) {
+            return 0L;
+        }
+        long groups = 0L;
+        int state = 0;
+        for (int i = 0, len = text.length(); i < len; i++) {
+            state = next(state, Character.toLowerCase(text.charAt(i)));
+            groups |= output[state];
+        }
+        return groups;
+    }
+
+    /**
+     * 텍스트에 포함된 모든 키워드를 (키워드, 그룹) 쌍으로 반환한다.
+     * 키워드가 텍스트에서 처음 끝나는 위치 순서이며, 같은 키워드는 여러 번 나와도 한 번만 담는다.
+     * 키워드가 여러 그룹에 속하면 그룹 번호 오름차순으로 그룹마다 하나씩 담는다.
+     */
+    public List<Hit> matches(CharSequence text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<Hit> hits = new ArrayList<>();
+        boolean[] seen = null;
+        int state = 0;
+        for (int i = 0, len = text.length(); i < len; i++) {
+            state = next(state, Character.toLowerCase(text.charAt(i)));
+            if (output[state] == 0L) {
+                continue;
+            }
+            // 긴 키워드부터 사전 링크를 따라 이 위치에서 끝나는 키워드를 모두 훑는다.
+            for (int s = keywordAt[state] >= 0 ? state : dictionaryLink[state]; s > 0; s = dictionaryLink[s]) {
+                int id = keywordAt[s];
+                if (seen == null) {
+                    seen = new boolean[keywords.length];
+                }
+                if (seen[id]) {
+                    continue;
+                }
+                seen[id] = true;
+                for (long groups = keywordGroups[id]; groups != 0L; groups &= groups - 1) {
+                    hits.add(new Hit(keywords[id], Long.numberOfTrailingZeros(groups)));
+                }
+            }
+        }
+        return hits;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int target = transition(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int transition(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char value = edgeChars[mid];
+            if (value < c) {
+                low = mid + 1;
+            } else if (value > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Long> groupsByKeyword = new LinkedHashMap<>();
+        private final Map<String, String> spellings = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String keyword, int group) {
+            if (group < 0 || group >= Long.SIZE) {
+                throw new IllegalArgumentException("group은 0~63 범위여야 합니다: " + group);
+            }
+            if (keyword == null || keyword.isBlank()) {
+                return this;
+            }
+            String key = keyword.toLowerCase(Locale.ROOT);
+            groupsByKeyword.merge(key, 1L << group, (a, b) -> a | b);
+            spellings.putIfAbsent(key, keyword);
+            return this;
+        }
+
+        public Builder addAll(Iterable<String> keywords, int group) {
+            for (String keyword : keywords) {
+                add(keyword, group);
+            }
+            return this;
+        }
+
+        public KeywordAutomaton build() {
+            List<TreeMap<Character, Integer>> children = new ArrayList<>();
+            List<Long> groups = new ArrayList<>();
+            List<Integer> terminal = new ArrayList<>();
+            String[] keys = groupsByKeyword.keySet().toArray(String[]::new);
+            String[] keywords = new String[keys.length];
+            long[] keywordGroups = new long[keys.length];
+            children.add(new TreeMap<>());
+            groups.add(0L);
+            terminal.add(-1);
+
+            for (int id = 0; id < keys.length; id++) {
+                String keyword = keys[id];
+                keywords[id] = spellings.get(keyword);
+                keywordGroups[id] = groupsByKeyword.get(keyword);
+                int state = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = Character.toLowerCase(keyword.charAt(i));
+                    Integer target = children.get(state).get(c);
+                    if (target == null) {
+                        target = children.size();
+                        children.add(new TreeMap<>());
+                        groups.add(0L);
+                        terminal.add(-1);
+                        children.get(state).put(c, target);
+                    }
+                    state = target;
+                }
+                groups.set(state, groups.get(state) | keywordGroups[id]);
+                terminal.set(state, id);
+            }
+
+            int stateCount = children.size();
+            int[] fail = new int[stateCount];
+            long[] output = new long[stateCount];
+            int[] keywordAt = new int[stateCount];
+            int[] dictionaryLink = new int[stateCount];
+            for (int s = 0; s < stateCount; s++) {
+                output[s] = groups.get(s);
+                keywordAt[s] = terminal.get(s);
+            }
+
+            // BFS 순서로 실패 링크를 계산하면 부모 상태의 링크가 항상 먼저 확정된다.
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int child : children.get(0).values()) {
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                output[state] |= output[fail[state]];
+                dictionaryLink[state] = keywordAt[fail[state]] >= 0 ? fail[state] : dictionaryLink[fail[state]];
+                for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                    int child = edge.getValue();
+                    int f = fail[state];
+                    Integer target;
+                    while ((target = children.get(f).get(edge.getKey())) == null && f != 0) {
+                        f = fail[f];
+                    }
+                    fail[child] = target == null ? 0 : target;
+                    queue.add(child);
+                }
+            }
+
+            int[] edgeStart = new int[stateCount + 1];
+            int edgeCount = 0;
+            for (int s = 0; s < stateCount; s++) {
+                edgeStart[s] = edgeCount;
+                edgeCount += children.get(s).size();
+            }
+            edgeStart[stateCount] = edgeCount;
+            char[] edgeChars = new char[edgeCount];
+            int[] edgeTargets = new int[edgeCount];
+            for (int s = 0; s < stateCount; s++) {
+                int i = edgeStart[s];
+                for (Map.Entry<Character, Integer> edge : children.get(s).entrySet()) {
+                    edgeChars[i] = edge.getKey();
+                    edgeTargets[i] = edge.getValue();
+                    i++;
+                }
+            }
+
+            return new KeywordAutomaton(edgeStart, edgeChars, edgeTargets, fail, output,
+                keywordAt, dictionaryLink, keywords, keywordGroups);
+        }
+    }
+}
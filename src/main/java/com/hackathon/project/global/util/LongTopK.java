@@ -0,0 +1,105 @@
+package com.hackathon.project.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 값이 큰 순서로 상위 K개의 long 키만 유지하는 고정 크기 최소 힙.
+ * 정렬 기준을 키 하나에 담아(예: 점수 상위 비트 + 순위 하위 비트) 비교 시 객체를 만들지 않는다.
+ */
+public final class LongTopK {
+
+    private final long[] heap;
+    private int size;
+
+    public LongTopK(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.heap = new long[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == heap.length;
+    }
+
+    /**
+     * 현재 보관 중인 키 중 가장 작은 값. 비어 있으면 {@link Long#MIN_VALUE}.
+     */
+    public long min() {
+        return size == 0 ? Long.MIN_VALUE : heap[0];
+    }
+
+    /**
+     * 키를 후보로 넣는다. 힙이 가득 찼고 최솟값보다 작거나 같으면 버린다.
+     */
+    public boolean offer(long key) {
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+            return true;
+        }
+        if (key <= heap[0]) {
+            return false;
+        }
+        heap[0] = key;
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * 다른 힙의 키를 모두 후보로 넣는다. 분할 계산한 부분 결과를 합칠 때 사용한다.
+     */
+    public void addAll(LongTopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.heap[i]);
+        }
+    }
+
+    /**
+     * 보관 중인 키를 내림차순으로 정렬해 반환한다. 힙 상태는 바뀌지 않는다.
+     */
+    public long[] toSortedArray() {
+        long[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted);
+        for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+            long tmp = sorted[i];
+            sorted[i] = sorted[j];
+            sorted[j] = tmp;
+        }
+        return sorted;
+    }
+
+    private void siftUp(int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private void siftDown(int index) {
+        long key = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+}
@@ -0,0 +1,121 @@
+package com.hackathon.project.global.util;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합친다.
+ * 먼저 들어온 호출이 loader를 생성자로 받은 executor에 맡기고, 그동안 들어온 호출을 포함해 모두가 같은 결과를 기다린다.
+ * 공유 호출은 호출자 스레드와 분리되어 있으므로 어느 한 호출자가 인터럽트되거나 대기 시간을 넘겨도
+ * 그 호출자의 대기만 끝나고 다른 호출자의 대기는 그대로 이어진다.
+ * 기다리는 호출자가 하나도 남지 않으면 키를 지우고 loader를 실행 중인 스레드를 인터럽트해 공유 호출을 취소한다.
+ * 결과나 예외는 기다리던 모든 호출에 그대로 전달되며, 완료된 키는 바로 지워지므로 결과를 캐시하지는 않는다.
+ */
+public final class SingleFlight<T> {
+
+    private final ConcurrentMap<String, Flight<T>> inFlight = new ConcurrentHashMap<>();
+    private final Executor executor;
+
+    public SingleFlight(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param waitTimeout 이 호출이 결과를 기다리는 최대 시간. 초과했을 때 다른 호출자가 없으면 공유 호출도 취소된다.
+     * @throws IllegalStateException 대기 시간 초과, 대기 중 인터럽트, executor가 작업을 거절한 경우
+     */
+    public T execute(String key, Duration waitTimeout, Supplier<T> loader) {
+        // 대기자 수는 맵의 compute 안에서만 바꾸므로, 마지막 대기자가 떠나며 지운 호출에 새 호출자가 붙지 않는다.
+        Flight<T> created = new Flight<>();
+        Flight<T> flight = inFlight.compute(key, (k, existing) -> {
+            Flight<T> joined = existing != null ? existing : created;
+            joined.waiters++;
+            return joined;
+        });
+        if (flight == created) {
+            start(key, created, loader);
+        }
+        return await(key, flight, waitTimeout);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private void start(String key, Flight<T> flight, Supplier<T> loader) {
+        // 완료 처리보다 키 삭제가 먼저여야 결과를 받은 호출자가 곧바로 다시 부를 때 끝난 호출에 붙지 않는다.
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                T result = loader.get();
+                inFlight.remove(key, flight);
+                flight.result.complete(result);
+            } catch (Throwable e) {
+                inFlight.remove(key, flight);
+                flight.result.completeExceptionally(e);
+            }
+        }, null);
+        flight.task = task;
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, flight);
+            flight.result.completeExceptionally(new IllegalStateException("공유 호출을 시작하지 못했습니다.", e));
+        }
+    }
+
+    private T await(String key, Flight<T> flight, Duration waitTimeout) {
+        try {
+            return flight.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            leave(key, flight);
+            throw new IllegalStateException("진행 중인 동일 요청 대기 시간 초과(" + waitTimeout + ")", e);
+        } catch (InterruptedException e) {
+            leave(key, flight);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("진행 중인 동일 요청 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            // 공유 호출이 던진 예외를 그대로 다시 던진다.
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // 결과를 받지 않고 떠나는 호출자. 마지막 대기자였다면 공유 호출을 취소한다.
+    private void leave(String key, Flight<T> flight) {
+        boolean[] abandoned = new boolean[1];
+        inFlight.computeIfPresent(key, (k, current) -> {
+            if (current != flight || --current.waiters > 0) {
+                return current;
+            }
+            abandoned[0] = true;
+            return null;
+        });
+        if (abandoned[0]) {
+            flight.task.cancel(true);
+            flight.result.completeExceptionally(new CancellationException("기다리는 호출이 없어 공유 호출을 취소했습니다."));
+        }
+    }
+
+    private static final class Flight<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private int waiters; // inFlight.compute 안에서만 읽고 쓴다.
+        private volatile FutureTask<Void> task;
+    }
+}
@@ -0,0 +1,182 @@
+package com.hackathon.project.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GeminiClientTest {
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private volatile Duration delay = Duration.ZERO;
+    private volatile int status = 200;
+    private GeminiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/generate", this::handle);
+        server.createContext("/stream", this::handleStream);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        client = new GeminiClient(
+            "http://localhost:" + server.getAddress().getPort() + "/generate",
+            "http://localhost:" + server.getAddress().getPort() + "/stream?alt=sse",
+            "test-key",
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(5),
+            Duration.ofMillis(500),
+            4,
+            Duration.ofSeconds(1),
+            new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void 연속_호출은_같은_연결을_재사용한다() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.generateContent("{\"n\":" + i + "}")).isEqualTo("{\"ok\":true}");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(queries).allMatch("key=test-key"::equals);
+    }
+
+    @Test
+    void 마감_시간을_넘기면_요청을_취소한다() {
+        delay = Duration.ofSeconds(3);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.generateContent("{}"))
+            .isInstanceOfSatisfying(GeminiApiException.class, e -> {
+                assertThat(e.isRetryable()).isFalse();
+                assertThat(e.isUpstreamFailure()).isTrue();
+            })
+            .hasMessageContaining("시간 초과");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void 호출_측이_넘긴_시간_제한이_지나면_요청을_취소한다() {
+        delay = Duration.ofSeconds(3);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.generateContent("{}", cancel -> {
+        }, Duration.ofMillis(100)))
+            .isInstanceOfSatisfying(GeminiApiException.class, e -> assertThat(e.isRetryable()).isFalse())
+            .hasMessageContaining("시간 초과(PT0.1S)");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(450));
+    }
+
+    @Test
+    void 호출_스레드가_인터럽트되면_취소로_구분한다() throws Exception {
+        delay = Duration.ofSeconds(3);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        Thread caller = Thread.ofVirtual().start(() -> {
+            try {
+                client.generateContent("{}");
+            } catch (RuntimeException e) {
+                failure.set(e);
+            }
+        });
+        Thread.sleep(200);
+        caller.interrupt();
+        caller.join(Duration.ofSeconds(2));
+
+        assertThat(failure.get()).isInstanceOfSatisfying(GeminiApiException.class, e -> {
+            assertThat(e.isCancelled()).isTrue();
+            assertThat(e.isRetryable()).isFalse();
+            assertThat(e.isUpstreamFailure()).isFalse();
+        });
+    }
+
+    @Test
+    void 서버_오류와_요청_오류를_재시도_여부로_구분한다() {
+        status = 503;
+        assertThatThrownBy(() -> client.generateContent("{}"))
+            .isInstanceOfSatisfying(GeminiApiException.class, e -> {
+                assertThat(e.getStatusCode()).isEqualTo(503);
+                assertThat(e.isRetryable()).isTrue();
+                assertThat(e.isUpstreamFailure()).isTrue();
+            });
+
+        status = 400;
+        assertThatThrownBy(() -> client.generateContent("{}"))
+            .isInstanceOfSatisfying(GeminiApiException.class, e -> {
+                assertThat(e.getStatusCode()).isEqualTo(400);
+                assertThat(e.isRetryable()).isFalse();
+                assertThat(e.isUpstreamFailure()).isFalse();
+            });
+
+        // 오류 응답 본문도 끝까지 읽으므로 같은 연결이 계속 재사용된다.
+        status = 200;
+        assertThat(client.generateContent("{}")).isEqualTo("{\"ok\":true}");
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void 스트리밍_응답은_SSE_이벤트마다_data를_넘긴다() {
+        List<String> events = new CopyOnWriteArrayList<>();
+
+        client.streamGenerateContent("{}", events::add);
+
+        assertThat(events).containsExactly("{\"n\":1}", "{\"n\":2}", "line1\nline2");
+        assertThat(queries).containsExactly("alt=sse&key=test-key");
+    }
+
+    private void handleStream(HttpExchange exchange) throws IOException {
+        queries.add(exchange.getRequestURI().getQuery());
+        exchange.getRequestBody().readAllBytes();
+        byte[] body = "data: {\"n\":1}\r\n\r\ndata:{\"n\":2}\n\n: comment\ndata: line1\ndata: line2\n\n"
+            .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        queries.add(exchange.getRequestURI().getQuery());
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException ignored) {
+            // 마감 시간 테스트에서는 클라이언트가 먼저 연결을 끊는다.
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.hackathon.project.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hackathon.project.global.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GeminiResilienceTest {
+
+    private GeminiResilience resilience;
+
+    @AfterEach
+    void tearDown() {
+        Thread.interrupted();
+        resilience.shutdown();
+    }
+
+    @Test
+    void 재시도_가능한_실패는_최대_시도_횟수까지_다시_부른다() {
+        resilience = resilience(3, 0.0, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = resilience.call((onCancel, timeLimit) -> {
+            if (calls.incrementAndGet() < 3) {
+                throw GeminiApiException.status(503, "busy");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void 요청_오류는_재시도하지_않는다() {
+        resilience = resilience(3, 0.0, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> resilience.call((onCancel, timeLimit) -> {
+            calls.incrementAndGet();
+            throw GeminiApiException.status(400, "bad request");
+        })).isInstanceOf(GeminiApiException.class);
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 재시도_예산을_다_쓰면_더_이상_재시도하지_않는다() {
+        resilience = resilience(3, 0.0, 1);
+        AtomicInteger calls = new AtomicInteger();
+        GeminiResilience.CancellableCall failing = (onCancel, timeLimit) -> {
+            calls.incrementAndGet();
+            throw GeminiApiException.status(503, "busy");
+        };
+
+        assertThatThrownBy(() -> resilience.call(failing)).isInstanceOf(GeminiApiException.class);
+        assertThat(calls).as("토큰 1개로 재시도 1번").hasValue(2);
+
+        calls.set(0);
+        assertThatThrownBy(() -> resilience.call(failing)).isInstanceOf(GeminiApiException.class);
+        assertThat(calls).as("예산 소진").hasValue(1);
+    }
+
+    @Test
+    void 호출_측_취소는_재시도하지_않고_예산과_브레이커에_반영하지_않는다() {
+        resilience = resilience(3, 0.0, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> resilience.call((onCancel, timeLimit) -> {
+            calls.incrementAndGet();
+            throw GeminiApiException.cancelled(new InterruptedIOException("Request aborted"));
+        }))
+            .isInstanceOfSatisfying(GeminiApiException.class, e -> assertThat(e.isCancelled()).isTrue());
+
+        assertThat(calls).hasValue(1);
+        assertThat(resilience.health().getDetails())
+            .containsEntry("circuit", CircuitBreaker.State.CLOSED)
+            .containsEntry("failureRate", 0.0)
+            .containsEntry("retryBudgetTokens", 10.0);
+    }
+
+    @Test
+    void 인터럽트된_스레드의_연결_오류는_재시도하지_않는다() {
+        resilience = resilience(3, 0.0, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // 가상 스레드가 소켓 읽기 중 인터럽트되면 일반 IOException으로 끝난다.
+        assertThatThrownBy(() -> resilience.call((onCancel, timeLimit) -> {
+            calls.incrementAndGet();
+            Thread.currentThread().interrupt();
+            throw GeminiApiException.io(new IOException("Closed by interrupt"));
+        })).isInstanceOf(GeminiApiException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        assertThat(resilience.health().getDetails())
+            .containsEntry("retryBudgetTokens", 10.0);
+    }
+
+    @Test
+    void 각_시도에는_호출_전체_마감까지_남은_시간만_넘긴다() {
+        resilience = resilience(3, 0.0, 10, Duration.ofSeconds(10), Duration.ofMillis(1));
+        List<Duration> timeLimits = new ArrayList<>();
+
+        assertThatThrownBy(() -> resilience.call((onCancel, timeLimit) -> {
+            timeLimits.add(timeLimit);
+            sleep(Duration.ofMillis(100));
+            throw GeminiApiException.io(new IOException("connection reset"));
+        })).isInstanceOf(GeminiApiException.class);
+
+        assertThat(timeLimits).hasSize(3);
+        assertThat(timeLimits.get(0)).isLessThanOrEqualTo(Duration.ofSeconds(10));
+        for (int i = 1; i < timeLimits.size(); i++) {
+            assertThat(timeLimits.get(i)).isLessThanOrEqualTo(timeLimits.get(i - 1).minusMillis(100));
+        }
+    }
+
+    @Test
+    void 남은_시간이_응답_대기_시간보다_짧으면_재시도하지_않는다() {
+        resilience = resilience(3, 0.0, 10, Duration.ofMillis(500), Duration.ofMillis(300));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> resilience.call((onCancel, timeLimit) -> {
+            calls.incrementAndGet();
+            sleep(Duration.ofMillis(250)); // 읽기 타임아웃처럼 한참 기다린 뒤 실패
+            throw GeminiApiException.io(new SocketTimeoutException("Read timed out"));
+        })).isInstanceOf(GeminiApiException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(resilience.health().getDetails()).containsEntry("retryBudgetTokens", 10.0);
+    }
+
+    @Test
+    void 반열림_상태의_시험_호출이_취소되면_다음_호출이_시험을_맡는다() {
+        resilience = new GeminiResilience(2, 2, 0.5, Duration.ofMinutes(1), 1.0, Duration.ZERO, 1,
+            1, Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofMinutes(1), Duration.ofMillis(1), 0.0, 10,
+            false, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resilience.call((onCancel, timeLimit) -> {
+                throw GeminiApiException.status(503, "busy");
+            })).isInstanceOf(GeminiApiException.class);
+        }
+        assertThat(resilience.health().getDetails()).containsEntry("circuit", CircuitBreaker.State.HALF_OPEN);
+
+        assertThatThrownBy(() -> resilience.callOnce(() -> {
+            throw GeminiApiException.cancelled(new InterruptedIOException());
+        })).isInstanceOf(GeminiApiException.class);
+
+        assertThat(resilience.call((onCancel, timeLimit) -> "ok")).isEqualTo("ok");
+        assertThat(resilience.health().getDetails()).containsEntry("circuit", CircuitBreaker.State.CLOSED);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static GeminiResilience resilience(int maxAttempts, double budgetRatio, int budgetMaxTokens) {
+        return resilience(maxAttempts, budgetRatio, budgetMaxTokens, Duration.ofMinutes(1), Duration.ofMillis(1));
+    }
+
+    private static GeminiResilience resilience(int maxAttempts, double budgetRatio, int budgetMaxTokens,
+        Duration callDeadline, Duration readTimeout) {
+        return new GeminiResilience(50, 50, 0.5, Duration.ofMinutes(1), 1.0, Duration.ofMinutes(1), 1,
+            maxAttempts, Duration.ofMillis(1), Duration.ofMillis(2), callDeadline, readTimeout, budgetRatio,
+            budgetMaxTokens, false, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,92 @@
+package com.hackathon.project.domain.Roadmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hackathon.project.domain.GeminiUnavailableException;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapCreateRequestDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapJobResponseDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapJobResponseDTO.ErrorCode;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapJobResponseDTO.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RoadmapJobServiceTest {
+
+    private final RoadmapResponseCache roadmapResponseCache = mock(RoadmapResponseCache.class);
+    private RoadmapJobService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void 실패한_작업은_예외_내용_대신_고정된_오류_코드만_돌려준다() throws InterruptedException {
+        service = service(Duration.ofMinutes(10));
+        when(roadmapResponseCache.get(any(), any()))
+            .thenThrow(new IllegalStateException("Gemini API 오류 응답: HTTP 400 {\"error\":\"API key ...\"}"));
+
+        RoadmapJobResponseDTO job = finished(service.submit(new RoadmapCreateRequestDTO()).getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(job.getErrorCode()).isEqualTo(ErrorCode.INTERNAL_ERROR);
+        assertThat(job.getError()).isEqualTo(ErrorCode.INTERNAL_ERROR.getMessage()).doesNotContain("API key");
+    }
+
+    @Test
+    void 서킷_브레이커_차단은_별도_코드로_알려준다() throws InterruptedException {
+        service = service(Duration.ofMinutes(10));
+        when(roadmapResponseCache.get(any(), any())).thenThrow(new GeminiUnavailableException(Duration.ofSeconds(3)));
+
+        RoadmapJobResponseDTO job = finished(service.submit(new RoadmapCreateRequestDTO()).getJobId());
+
+        assertThat(job.getErrorCode()).isEqualTo(ErrorCode.AI_UNAVAILABLE);
+        assertThat(job.getError()).isEqualTo(ErrorCode.AI_UNAVAILABLE.getMessage());
+    }
+
+    @Test
+    void 만료된_작업은_조회하거나_정리_주기가_돌면_지워진다() throws InterruptedException {
+        service = service(Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+        when(roadmapResponseCache.get(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("boom");
+        });
+
+        // 결과 보관 기간이 0이면 완료 직후 만료되므로 완료 콜백은 작업이 끝나기 전에 걸어 둔다.
+        CountDownLatch done = new CountDownLatch(2);
+        String first = service.submit(new RoadmapCreateRequestDTO()).getJobId();
+        String second = service.submit(new RoadmapCreateRequestDTO()).getJobId();
+        service.whenFinished(first, done::countDown);
+        service.whenFinished(second, done::countDown);
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.jobCount()).isEqualTo(2);
+
+        assertThatThrownBy(() -> service.status(first)).isInstanceOf(RoadmapJobNotFoundException.class);
+        assertThat(service.jobCount()).isEqualTo(1);
+
+        service.purgeExpired();
+        assertThat(service.jobCount()).isZero();
+    }
+
+    private RoadmapJobService service(Duration resultTtl) {
+        return new RoadmapJobService(mock(RoadmapService.class), roadmapResponseCache, 1, 10, resultTtl,
+            new SimpleMeterRegistry());
+    }
+
+    private RoadmapJobResponseDTO finished(String jobId) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        service.whenFinished(jobId, done::countDown);
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        return service.status(jobId);
+    }
+}
@@ -0,0 +1,135 @@
+package com.hackathon.project.domain.Roadmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.hackathon.project.domain.GeminiClient;
+import com.hackathon.project.domain.GeminiResilience;
+import com.hackathon.project.domain.GeminiService;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapAiResponseDTO;
+import com.hackathon.project.domain.Roadmap.dto.RoadmapCreateRequestDTO;
+import com.hackathon.project.domain.Subject.SubjectRecommendationService;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Gemini가 끝나지 않을 때 마감 시간 안에 간이 로드맵으로 응답하고 Gemini 호출을 끊는지 확인한다.
+ */
+class RoadmapServiceTest {
+
+    private static final Duration DEADLINE = Duration.ofMillis(300);
+
+    private final GeminiService geminiService = mock(GeminiService.class);
+    private final SubjectRecommendationService subjectRecommendationService = mock(SubjectRecommendationService.class);
+    private final CountDownLatch geminiInterrupted = new CountDownLatch(1);
+    private RoadmapService roadmapService;
+
+    @BeforeEach
+    void setUp() {
+        when(subjectRecommendationService.scoreSubjects(any()))
+            .thenReturn(new SubjectScoreResponseDTO(List.of("백엔드"), 20, List.of()));
+        roadmapService = new RoadmapService(
+            geminiService, subjectRecommendationService, new WeightHintService(), new TermCalendar());
+        ReflectionTestUtils.setField(roadmapService, "degradedEnabled", true);
+        ReflectionTestUtils.setField(roadmapService, "degradedDeadline", DEADLINE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        roadmapService.shutdown();
+    }
+
+    @Test
+    @Timeout(10) // 마감 없이 구간을 기다리면 여기서 멈춘다.
+    void 스트림이_끝나지_않으면_마감_시간에_끊고_간이_로드맵으로_마무리한다() throws InterruptedException {
+        when(geminiService.streamRoadMap(any(), any())).thenAnswer(invocation -> {
+            BiConsumer<String, JsonNode> sectionSink = invocation.getArgument(1);
+            sectionSink.accept("careerSummary", TextNode.valueOf("요약"));
+            return blockUntilInterrupted();
+        });
+        List<String> events = new CopyOnWriteArrayList<>();
+
+        long started = System.nanoTime();
+        RoadmapAiResponseDTO roadmap = roadmapService.streamRoadmap(
+            new RoadmapCreateRequestDTO(), (name, value) -> events.add(name));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(3));
+        assertThat(roadmap.isDegraded()).isTrue();
+        assertThat(events).containsExactly("weightHints", "subjectRecommendations", "careerSummary", "roadmap");
+        assertThat(geminiInterrupted.await(2, TimeUnit.SECONDS)).as("Gemini 스트림 취소").isTrue();
+    }
+
+    @Test
+    void 응답이_오지_않으면_마감_시간에_간이_로드맵을_돌려준다() throws InterruptedException {
+        when(geminiService.askRoadMap(any())).thenAnswer(invocation -> blockUntilInterrupted());
+
+        long started = System.nanoTime();
+        RoadmapAiResponseDTO roadmap = roadmapService.generateRoadmap(new RoadmapCreateRequestDTO());
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(3));
+        assertThat(roadmap.isDegraded()).isTrue();
+        assertThat(roadmap.getSubjectRecommendations().getMatchedSectors()).containsExactly("백엔드");
+        assertThat(geminiInterrupted.await(2, TimeUnit.SECONDS)).as("Gemini 호출 취소").isTrue();
+    }
+
+    @Test
+    void 마감_시간을_넘기면_합쳐진_Gemini_요청까지_끊는다() throws InterruptedException {
+        GeminiClient geminiClient = mock(GeminiClient.class);
+        CountDownLatch requestAborted = new CountDownLatch(1);
+        when(geminiClient.generateContent(anyString(), any(), any())).thenAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                requestAborted.countDown(); // 실제 클라이언트는 인터럽트되면 소켓을 닫고 요청을 끊는다.
+            }
+            throw new IllegalStateException("요청 취소");
+        });
+        GeminiResilience resilience = new GeminiResilience(50, 50, 0.5, Duration.ofMinutes(1), 1.0,
+            Duration.ofMinutes(1), 1, 1, Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofMinutes(1),
+            Duration.ofMinutes(1), 0.0, 10, false, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        GeminiService realGeminiService = new GeminiService(geminiClient, resilience, new TermCalendar());
+        ReflectionTestUtils.setField(realGeminiService, "coalesceWaitTimeout", Duration.ofMinutes(1));
+        RoadmapService service = new RoadmapService(
+            realGeminiService, subjectRecommendationService, new WeightHintService(), new TermCalendar());
+        ReflectionTestUtils.setField(service, "degradedEnabled", true);
+        ReflectionTestUtils.setField(service, "degradedDeadline", DEADLINE);
+        RoadmapCreateRequestDTO requestDTO = new RoadmapCreateRequestDTO();
+        ReflectionTestUtils.setField(requestDTO, "transcript", new RoadmapCreateRequestDTO.Transcript());
+
+        try {
+            RoadmapAiResponseDTO roadmap = service.generateRoadmap(requestDTO);
+
+            assertThat(roadmap.isDegraded()).isTrue();
+            assertThat(requestAborted.await(2, TimeUnit.SECONDS)).as("Gemini HTTP 요청 취소").isTrue();
+        } finally {
+            service.shutdown();
+            realGeminiService.shutdown();
+            resilience.shutdown();
+        }
+    }
+
+    private RoadmapAiResponseDTO blockUntilInterrupted() {
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            geminiInterrupted.countDown();
+        }
+        throw new IllegalStateException("Gemini 호출 취소");
+    }
+}
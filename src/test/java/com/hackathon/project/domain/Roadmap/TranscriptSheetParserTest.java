@@ -0,0 +1,174 @@
+package com.hackathon.project.domain.Roadmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseDTO;
+import com.hackathon.project.domain.Roadmap.dto.ExcelParseResponseDTO;
+import com.hackathon.project.fixture.TranscriptFixtures;
+import com.hackathon.project.fixture.TranscriptFixtures.GradeDistribution;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * SAX 시트 파서와 한 번의 순회로 누적하는 요약이
+ * XSSFWorkbook으로 시트 전체를 읽고 목록을 다시 훑던 기존 구현과 같은 결과를 내는지 확인한다.
+ */
+class TranscriptSheetParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void SAX_파서는_기존_DOM_파서와_같은_행을_만든다() throws IOException {
+        for (GradeDistribution distribution : GradeDistribution.values()) {
+            File file = write(TranscriptFixtures.transcript(300, distribution, 11L), distribution);
+
+            List<ExcelParseDTO> parsed = new ArrayList<>();
+            TranscriptSheetParser.parse(file, parsed::add);
+
+            assertThat(parsed)
+                .as(distribution.name())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(baselineParse(file));
+        }
+    }
+
+    @Test
+    void 누적_요약은_기존_합계_계산과_같다() throws IOException {
+        for (GradeDistribution distribution : GradeDistribution.values()) {
+            File file = write(TranscriptFixtures.transcript(500, distribution, 23L), distribution);
+
+            TranscriptAccumulator accumulator = new TranscriptAccumulator(false);
+            TranscriptSheetParser.parse(file, accumulator);
+            ExcelParseResponseDTO summary = accumulator.toResponse();
+            double[] expected = baselineTotals(baselineParse(file));
+
+            assertThat(summary.getCourses()).isNull();
+            assertThat(summary.getTotalCredits()).as(distribution.name()).isCloseTo(expected[0], within(1e-9));
+            assertThat(summary.getTotalMajorCredits()).as(distribution.name()).isCloseTo(expected[1], within(1e-9));
+            assertThat(summary.getTotalGeneralCredits()).as(distribution.name()).isCloseTo(expected[2], within(1e-9));
+            assertThat(summary.getAverageGPA()).as(distribution.name()).isCloseTo(expected[3], within(1e-9));
+        }
+    }
+
+    private File write(byte[] bytes, GradeDistribution distribution) throws IOException {
+        Path path = tempDir.resolve(distribution.name() + ".xlsx");
+        Files.write(path, bytes);
+        return path.toFile();
+    }
+
+    // 스트리밍 파서 도입 전의 RoadmapService.parse와 같은 계산
+    private static List<ExcelParseDTO> baselineParse(File file) throws IOException {
+        List<ExcelParseDTO> results = new ArrayList<>();
+        try (Workbook workbook = new XSSFWorkbook(file)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int i = 4; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) {
+                    continue;
+                }
+                results.add(ExcelParseDTO.builder()
+                    .completedYear(getInt(row.getCell(1)))
+                    .completedSemester(getInt(row.getCell(2)))
+                    .courseCode(getString(row.getCell(3)))
+                    .courseName(getString(row.getCell(4)))
+                    .courseType(getString(row.getCell(5)))
+                    .teachingArea(getString(row.getCell(6)))
+                    .selectedArea(getString(row.getCell(7)))
+                    .credits(getDouble(row.getCell(8)))
+                    .evaluationType(getString(row.getCell(9)))
+                    .grade(getString(row.getCell(10)))
+                    .gradePoint(getDouble(row.getCell(11)))
+                    .departmentCode(getString(row.getCell(12)))
+                    .build());
+            }
+        } catch (InvalidFormatException e) {
+            throw new IOException(e);
+        }
+        return results;
+    }
+
+    // 기존 convertExcelParseResponseDTO의 합계 계산: {취득학점, 전공학점, 교양학점, 평점평균}
+    private static double[] baselineTotals(List<ExcelParseDTO> courses) {
+        double totalCredits = 0.0;
+        double totalMajorCredits = 0.0;
+        double totalGradePoints = 0.0;
+        double pnp = 0.0;
+        double totalF = 0.0;
+        for (ExcelParseDTO course : courses) {
+            String grade = course.getGrade();
+            if (grade.startsWith("F")) {
+                totalF += course.getCredits();
+            }
+            if (grade.startsWith("NP")) {
+                continue;
+            }
+            if (grade.startsWith("P")) {
+                pnp += course.getCredits();
+            }
+            totalCredits += course.getCredits();
+            if (course.getCourseType().contains("전")) {
+                totalMajorCredits += course.getCredits();
+            }
+            totalGradePoints += course.getGradePoint() * course.getCredits();
+        }
+        double gpaDenominator = totalCredits - pnp;
+        double averageGPA = gpaDenominator > 0 ? totalGradePoints / gpaDenominator : 0.0;
+        return new double[]{
+            totalCredits - totalF, totalMajorCredits, totalCredits - totalMajorCredits, averageGPA};
+    }
+
+    private static String getString(Cell cell) {
+        if (cell == null) {
+            return null;
+        }
+        return switch (cell.getCellType()) {
+            case STRING -> cell.getStringCellValue().trim();
+            case NUMERIC -> String.valueOf(cell.getNumericCellValue());
+            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
+            case FORMULA -> cell.getCellFormula();
+            default -> null;
+        };
+    }
+
+    private static double getDouble(Cell cell) {
+        if (cell == null) {
+            return 0.0;
+        }
+        return switch (cell.getCellType()) {
+            case NUMERIC -> cell.getNumericCellValue();
+            case STRING -> {
+                String value = cell.getStringCellValue().trim();
+                yield value.isEmpty() ? 0.0 : Double.parseDouble(value);
+            }
+            default -> 0.0;
+        };
+    }
+
+    private static int getInt(Cell cell) {
+        if (cell == null) {
+            return 0;
+        }
+        return switch (cell.getCellType()) {
+            case NUMERIC -> (int) cell.getNumericCellValue();
+            case STRING -> {
+                String digits = cell.getStringCellValue().replaceAll("\\D", "");
+                yield digits.isEmpty() ? 0 : Integer.parseInt(digits);
+            }
+            default -> 0;
+        };
+    }
+}
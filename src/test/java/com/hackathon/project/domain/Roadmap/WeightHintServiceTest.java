@@ -0,0 +1,34 @@
+package com.hackathon.project.domain.Roadmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon.project.domain.Roadmap.dto.WeightHintResponseDTO;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WeightHintServiceTest {
+
+    private final WeightHintService weightHintService = new WeightHintService();
+
+    @Test
+    void 진로_텍스트에서_찾은_키워드를_섹터별로_돌려준다() {
+        WeightHintResponseDTO hints = weightHintService.buildWeightHints("백엔드 서버 개발자와 ai 연구원, 서버 운영");
+
+        assertThat(hints.getMatchedSectors()).containsExactly("AI", "백엔드");
+        assertThat(hints.getMatchedKeywords()).containsOnlyKeys("AI", "백엔드");
+        assertThat(hints.getMatchedKeywords().get("AI")).containsExactly("AI");
+        assertThat(hints.getMatchedKeywords().get("백엔드")).containsExactly("백엔드", "서버");
+        assertThat(hints.getSectorKeywords()).containsOnlyKeys("AI", "백엔드");
+    }
+
+    @Test
+    void 매칭이_없으면_모든_섹터를_쓰고_찾은_키워드는_비어_있다() {
+        for (String careerText : new String[]{null, " ", "관련 키워드가 없는 진로"}) {
+            WeightHintResponseDTO hints = weightHintService.buildWeightHints(careerText);
+
+            assertThat(hints.getMatchedSectors()).isEqualTo(weightHintService.getSectors());
+            assertThat(hints.getMatchedKeywords()).isEmpty();
+            assertThat(hints.getSectorKeywords()).isEqualTo(weightHintService.getSectorKeywords());
+        }
+    }
+}
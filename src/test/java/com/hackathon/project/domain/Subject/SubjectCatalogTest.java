@@ -0,0 +1,62 @@
+package com.hackathon.project.domain.Subject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon.project.domain.Roadmap.WeightHintService;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.SubjectSummary;
+import com.hackathon.project.fixture.SubjectCatalogFixtures;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 컬럼 배열과 사전 인코딩으로 저장한 카탈로그가 원래 과목 필드와 과목명 정렬 순서를 그대로 돌려주는지 확인한다.
+ */
+class SubjectCatalogTest {
+
+    private final SubjectKeywordMatcher matcher = new SubjectKeywordMatcher(new WeightHintService());
+
+    @Test
+    void 요약은_원래_과목_필드와_같다() {
+        List<Subject> subjects = new ArrayList<>(SubjectCatalogFixtures.subjects(1000, 17L));
+        subjects.add(Subject.builder().courseCode(" 300123 ").courseName("값이 없는 과목").build());
+        subjects.add(Subject.builder().build());
+
+        SubjectCatalog catalog = SubjectCatalog.of(subjects, matcher);
+
+        assertThat(catalog.size()).isEqualTo(subjects.size());
+        for (int i = 0; i < subjects.size(); i++) {
+            Subject subject = subjects.get(i);
+            assertThat(catalog.summary(i)).as("i=%d", i).usingRecursiveComparison().isEqualTo(new SubjectSummary(
+                subject.getCourseCode(), subject.getCourseName(), subject.getCourseType(), subject.getSelectedArea(),
+                subject.getCredits(), subject.getGradeLevel(), subject.getOfferingDepartmentMajor(),
+                subject.getHostDepartment(), subject.getLectureLanguage(), subject.getCourseFormat(),
+                subject.getSchedule(), subject.getClassroom()));
+            assertThat(catalog.courseCodeKey(i))
+                .isEqualTo(subject.getCourseCode() == null ? "" : subject.getCourseCode().trim());
+        }
+    }
+
+    @Test
+    void 정렬_키는_점수_내림차순_과목명_오름차순이고_과목_위치로_되돌릴_수_있다() {
+        List<Subject> subjects = new ArrayList<>(SubjectCatalogFixtures.subjects(500, 29L));
+        subjects.add(Subject.builder().courseCode("100001").build());
+        SubjectCatalog catalog = SubjectCatalog.of(subjects, matcher);
+
+        List<Integer> byKey = new ArrayList<>();
+        for (int i = 0; i < subjects.size(); i++) {
+            int score = i % 7;
+            long key = catalog.rankKey(i, score);
+            assertThat(catalog.indexOf(key)).isEqualTo(i);
+            assertThat(SubjectCatalog.scoreOf(key)).isEqualTo(score);
+            byKey.add(i);
+        }
+        byKey.sort(Comparator.comparingLong((Integer i) -> catalog.rankKey(i, i % 7)).reversed());
+
+        List<Integer> expected = new ArrayList<>(byKey);
+        expected.sort(Comparator.comparingInt((Integer i) -> i % 7).reversed()
+            .thenComparing(i -> subjects.get(i).getCourseName(), Comparator.nullsLast(String::compareTo)));
+        assertThat(byKey).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,48 @@
+package com.hackathon.project.domain.Subject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 역색인으로 뽑은 후보가 모든 과목의 섹터 비트마스크를 훑어 고른 결과와 같은지 확인한다.
+ */
+class SubjectKeywordIndexTest {
+
+    private static final int SECTORS = 6;
+    private static final int SIZE = 300;
+
+    @Test
+    void 후보는_어느_필드_그룹이든_요청_섹터에_걸린_과목이다() {
+        Random random = new Random(9L);
+        int[][] sectorsByGroup = new int[4][SIZE];
+        for (int[] sectors : sectorsByGroup) {
+            for (int i = 0; i < SIZE; i++) {
+                // 대부분의 과목은 섹터가 없고 일부만 한두 섹터에 걸린다.
+                sectors[i] = random.nextInt(4) == 0 ? random.nextInt(1 << SECTORS) & random.nextInt(1 << SECTORS) : 0;
+            }
+        }
+        SubjectKeywordIndex index = SubjectKeywordIndex.build(sectorsByGroup);
+
+        for (int sectorMask = 0; sectorMask < 1 << SECTORS; sectorMask++) {
+            long[] candidates = index.candidates(sectorMask);
+            for (int i = 0; i < SIZE; i++) {
+                boolean expected = false;
+                for (int[] sectors : sectorsByGroup) {
+                    expected |= (sectors[i] & sectorMask) != 0;
+                }
+                assertThat(SubjectKeywordIndex.contains(candidates, i))
+                    .as("mask=%d, i=%d", sectorMask, i)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void 빈_카탈로그는_후보가_없다() {
+        SubjectKeywordIndex index = SubjectKeywordIndex.build(new int[0], new int[0]);
+
+        assertThat(index.candidates(0b111)).isEmpty();
+    }
+}
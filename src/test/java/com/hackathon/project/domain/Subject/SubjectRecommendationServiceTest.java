@@ -0,0 +1,274 @@
+package com.hackathon.project.domain.Subject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hackathon.project.domain.Roadmap.WeightHintService;
+import com.hackathon.project.domain.Roadmap.dto.WeightHintResponseDTO;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreRequestDTO;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO;
+import com.hackathon.project.domain.Subject.dto.SubjectScoreResponseDTO.ScoredSubject;
+import com.hackathon.project.fixture.SubjectCatalogFixtures;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 카탈로그 스냅샷/역색인/랭킹 캐시/병렬 채점을 거친 추천 결과가
+ * 과목마다 전체 규칙을 적용하고 전부 정렬하던 기존 구현과 같은지 합성 카탈로그로 확인한다.
+ */
+class SubjectRecommendationServiceTest {
+
+    private static final List<String> CAREER_TEXTS = List.of(
+        "",
+        "백엔드 서버 개발자",
+        "AI 연구원이 되고 싶어요",
+        "데이터 분석과 시각화, 보안에도 관심",
+        "UX 디자이너",
+        "교육 콘텐츠를 만드는 에듀테크 기획자",
+        "관련 키워드가 없는 진로");
+
+    private final WeightHintService weightHintService = new WeightHintService();
+    private final SubjectKeywordMatcher matcher = new SubjectKeywordMatcher(weightHintService);
+    private List<Subject> subjects;
+    private SubjectRanker sequentialRanker;
+    private SubjectRanker parallelRanker;
+
+    @BeforeEach
+    void setUp() {
+        subjects = SubjectCatalogFixtures.subjects(3000, 42L);
+        sequentialRanker = new SubjectRanker(false, 0, 8192, 0);
+        // 작은 카탈로그에서도 여러 구간으로 나뉘도록 임계치와 구간 크기를 낮춘다.
+        parallelRanker = new SubjectRanker(true, 0, 128, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelRanker.shutdown();
+    }
+
+    @Test
+    void 추천_결과가_기존_전체_정렬_구현과_같다() {
+        SubjectRecommendationService service = service(sequentialRanker);
+        List<String> completed = List.of(
+            subjects.get(0).getCourseCode(), " " + subjects.get(10).getCourseCode() + " ", "없는코드");
+
+        for (String careerText : CAREER_TEXTS) {
+            // 300은 캐시 깊이(200)보다 길어 캐시를 건너뛰는 경로다.
+            for (Integer topN : new Integer[]{null, 0, 5, 20, 300}) {
+                SubjectScoreRequestDTO request = new SubjectScoreRequestDTO(careerText, topN, completed);
+                assertThat(describe(service.scoreSubjects(request)))
+                    .as("%s / topN=%s", careerText, topN)
+                    .containsExactlyElementsOf(describe(baseline(request)));
+            }
+        }
+    }
+
+    @Test
+    void 규칙_비트로_계산한_점수와_사유가_규칙별_계산과_같다() {
+        List<Subject> sample = subjects.subList(0, 500);
+        SubjectCatalog catalog = SubjectCatalog.of(sample, matcher);
+        List<String> sectors = weightHintService.getSectors();
+
+        for (int sectorMask = 0; sectorMask < 1 << sectors.size(); sectorMask++) {
+            Set<String> keywords = new LinkedHashSet<>();
+            for (int sector = 0; sector < sectors.size(); sector++) {
+                if ((sectorMask & 1 << sector) != 0) {
+                    keywords.addAll(weightHintService.getSectorKeywords().get(sectors.get(sector)));
+                }
+            }
+            for (int i = 0; i < sample.size(); i++) {
+                ScoredSubject expected = baselineScore(sample.get(i), keywords);
+                int rules = catalog.rules(i, sectorMask);
+                assertThat(SubjectRule.score(rules)).as("mask=%d, i=%d", sectorMask, i).isEqualTo(expected.getScore());
+                assertThat(SubjectRule.reasons(rules)).as("mask=%d, i=%d", sectorMask, i)
+                    .isEqualTo(expected.getReasons());
+            }
+        }
+    }
+
+    @Test
+    void 카탈로그_스냅샷이_바뀌면_랭킹_캐시를_버린다() {
+        SubjectRankingCache cache = new SubjectRankingCache(16, 200);
+        SubjectCatalog first = SubjectCatalog.of(subjects, matcher);
+        SubjectCatalog second = SubjectCatalog.of(subjects.subList(0, 100), matcher);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<long[]> loader = () -> new long[]{loads.incrementAndGet()};
+
+        long[] cached = cache.get(first, 3, loader);
+        assertThat(cache.get(first, 3, loader)).isSameAs(cached);
+        assertThat(loads).hasValue(1);
+
+        assertThat(cache.get(second, 3, loader)).containsExactly(2L);
+        assertThat(cache.get(first, 3, loader)).containsExactly(3L);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void 병렬_채점은_순차_채점과_같은_결과를_낸다() {
+        SubjectCatalog catalog = SubjectCatalog.of(subjects, matcher);
+        Set<String> excluded = Set.of(subjects.get(3).getCourseCode().trim());
+        int sectorCount = weightHintService.getSectors().size();
+
+        for (int sectorMask = 0; sectorMask < 1 << sectorCount; sectorMask++) {
+            for (int limit : new int[]{1, 20, 500}) {
+                assertThat(parallelRanker.rank(catalog, sectorMask, excluded, limit))
+                    .as("mask=%d, limit=%d", sectorMask, limit)
+                    .containsExactly(sequentialRanker.rank(catalog, sectorMask, excluded, limit));
+            }
+        }
+    }
+
+    @Test
+    void 일괄_계산은_요청별_계산과_같다() {
+        SubjectRecommendationService service = service(sequentialRanker);
+        List<SubjectScoreRequestDTO> requests = new ArrayList<>();
+        for (String careerText : CAREER_TEXTS) {
+            requests.add(new SubjectScoreRequestDTO(careerText, 10, List.of(subjects.get(1).getCourseCode())));
+            requests.add(new SubjectScoreRequestDTO(careerText, 250, List.of()));
+        }
+
+        List<Supplier<SubjectScoreResponseDTO>> batch = service.prepareBatch(requests);
+
+        assertThat(batch).hasSize(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(describe(batch.get(i).get()))
+                .containsExactlyElementsOf(describe(service.scoreSubjects(requests.get(i))));
+        }
+    }
+
+    private SubjectRecommendationService service(SubjectRanker ranker) {
+        SubjectRepository repository = mock(SubjectRepository.class);
+        when(repository.findDistinctByCourseName()).thenReturn(subjects);
+        return new SubjectRecommendationService(
+            new SubjectCatalogService(repository, matcher),
+            weightHintService,
+            ranker,
+            new SubjectRankingCache(256, 200));
+    }
+
+    private static List<String> describe(SubjectScoreResponseDTO response) {
+        return describe(response.getSubjects());
+    }
+
+    private static List<String> describe(List<ScoredSubject> subjects) {
+        return subjects.stream()
+            .map(s -> s.getSubject().getCourseName() + "|" + s.getScore() + "|" + s.getReasons())
+            .toList();
+    }
+
+    // 카탈로그 스냅샷 도입 전의 SubjectRecommendationService.scoreSubjects와 같은 계산
+    private List<ScoredSubject> baseline(SubjectScoreRequestDTO request) {
+        WeightHintResponseDTO hints = weightHintService.buildWeightHints(request.getCareerText());
+        Set<String> keywords = new LinkedHashSet<>();
+        hints.getSectorKeywords().values().forEach(keywords::addAll);
+        Set<String> completed = new HashSet<>();
+        for (String code : request.getCompletedCourseCodes()) {
+            if (!code.trim().isEmpty()) {
+                completed.add(code.trim());
+            }
+        }
+
+        List<ScoredSubject> scored = new ArrayList<>();
+        for (Subject subject : subjects) {
+            if (!completed.contains(subject.getCourseCode() == null ? "" : subject.getCourseCode().trim())) {
+                scored.add(baselineScore(subject, keywords));
+            }
+        }
+        scored.sort(Comparator.comparingInt(ScoredSubject::getScore).reversed()
+            .thenComparing(s -> s.getSubject().getCourseName(), Comparator.nullsLast(String::compareTo)));
+
+        int topN = request.getTopN() == null || request.getTopN() < 1 ? hints.getDefaultN() : request.getTopN();
+        return scored.size() > topN ? scored.subList(0, topN) : scored;
+    }
+
+    private static ScoredSubject baselineScore(Subject subject, Set<String> keywords) {
+        int score = 0;
+        List<String> reasons = new ArrayList<>();
+        boolean anyField = containsAny(subject.getCourseName(), keywords)
+            || containsAny(subject.getSelectedArea(), keywords)
+            || containsAny(subject.getNotes(), keywords);
+        if (containsAny(subject.getCourseName(), keywords)) {
+            score += 10;
+            reasons.add("과목명 키워드 매칭");
+        }
+        if (containsAny(subject.getSelectedArea(), keywords) || containsAny(subject.getCourseType(), keywords)) {
+            score += 8;
+            reasons.add("선택영역/이수구분 키워드 매칭");
+        }
+        if (containsAny(subject.getNotes(), keywords)
+            || containsAny(subject.getNotes(), List.of("프로젝트", "실무", "응용"))) {
+            score += 6;
+            reasons.add("유의사항 키워드 매칭");
+        }
+        if (containsAny(subject.getOfferingDepartmentMajor(), keywords)
+            || containsAny(subject.getHostDepartment(), keywords)) {
+            score += 7;
+            reasons.add("개설/주관학과 매칭");
+        }
+        String digits = subject.getCourseCode() == null ? "" : subject.getCourseCode().replaceAll("\\D", "");
+        if (!digits.isEmpty() && (digits.charAt(0) == '3' || digits.charAt(0) == '4')) {
+            score += 4;
+            reasons.add("전공 심화 학수번호");
+        }
+        if (subject.getGradeLevel() != null && (subject.getGradeLevel() == 3 || subject.getGradeLevel() == 4)) {
+            score += 4;
+            reasons.add("상위 학년 과목");
+        }
+        if (subject.getPracticeHours() != null && subject.getTheoryHours() != null
+            && subject.getPracticeHours() >= subject.getTheoryHours() && subject.getPracticeHours() > 0) {
+            score += 5;
+            reasons.add("실습 비중 높음");
+        }
+        if (containsAny(subject.getCourseFormat(), List.of("프로젝트", "캡스톤", "실험", "실습"))) {
+            score += 6;
+            reasons.add("실습/프로젝트형 강좌");
+        }
+        if (subject.getCredits() != null && subject.getCredits() >= 3.0) {
+            score += 3;
+            reasons.add("3학점 이상");
+        }
+        if (containsAny(subject.getLectureLanguage(), List.of("영어", "English"))) {
+            score += 2;
+            reasons.add("영어 강의");
+        }
+        boolean online = subject.getCyberLecture() != null
+            || containsAny(subject.getCourseFormat(), List.of("혼합", "블렌디드"));
+        if (online && anyField) {
+            score += 2;
+            reasons.add("사이버/혼합형 + 키워드 매칭");
+        }
+        if (subject.getCreditExchangeAvailability() != null && anyField) {
+            score += 1;
+            reasons.add("학점교류 + 키워드 매칭");
+        }
+        return new ScoredSubject(new SubjectScoreResponseDTO.SubjectSummary(
+            subject.getCourseCode(), subject.getCourseName(), subject.getCourseType(), subject.getSelectedArea(),
+            subject.getCredits(), subject.getGradeLevel(), subject.getOfferingDepartmentMajor(),
+            subject.getHostDepartment(), subject.getLectureLanguage(), subject.getCourseFormat(),
+            subject.getSchedule(), subject.getClassroom()), score, reasons);
+    }
+
+    private static boolean containsAny(String text, Iterable<String> keywords) {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        for (String keyword : keywords) {
+            if (normalized.contains(keyword.toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hackathon.project.fixture;
+
+import com.hackathon.project.fixture.TranscriptFixtures.GradeDistribution;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 부하 테스트용 픽스처 파일 생성기.
+ * <pre>
+ * ./gradlew generateFixtures -Pargs="transcript 300 build/fixtures/transcript.xlsx 42 TYPICAL"
+ * ./gradlew generateFixtures -Pargs="catalog 10000 build/fixtures/subjects.sql 42"
+ * </pre>
+ */
+public final class FixtureGenerator {
+
+    private static final long DEFAULT_SEED = 20251201L;
+    private static final int SQL_BATCH_SIZE = 500;
+
+    private FixtureGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("사용법: transcript <행 수> <출력.xlsx> [시드] [TYPICAL|HIGH|LOW|PASS_FAIL_HEAVY]");
+            System.err.println("       catalog <과목 수> <출력.sql> [시드]");
+            System.exit(1);
+        }
+        int count = Integer.parseInt(args[1]);
+        Path out = Path.of(args[2]);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        if (out.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(out.toAbsolutePath().getParent());
+        }
+
+        switch (args[0]) {
+            case "transcript" -> {
+                GradeDistribution distribution = args.length > 4
+                    ? GradeDistribution.valueOf(args[4].toUpperCase(Locale.ROOT))
+                    : GradeDistribution.TYPICAL;
+                TranscriptFixtures.writeTranscript(out, count, distribution, seed);
+            }
+            case "catalog" -> SubjectCatalogFixtures.writeSql(
+                out, SubjectCatalogFixtures.subjects(count, seed), SQL_BATCH_SIZE);
+            default -> throw new IllegalArgumentException("알 수 없는 종류: " + args[0]);
+        }
+        System.out.println(out.toAbsolutePath());
+    }
+}
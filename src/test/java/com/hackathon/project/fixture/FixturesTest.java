@@ -0,0 +1,67 @@
+package com.hackathon.project.fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon.project.domain.Subject.Subject;
+import com.hackathon.project.fixture.TranscriptFixtures.GradeDistribution;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 같은 시드로 만든 픽스처가 항상 같은지, 요청한 크기와 배치를 따르는지 확인한다.
+ */
+class FixturesTest {
+
+    @Test
+    void 같은_시드의_카탈로그는_같고_과목명은_유일하다() {
+        List<Subject> first = SubjectCatalogFixtures.subjects(2000, 42L);
+        List<Subject> second = SubjectCatalogFixtures.subjects(2000, 42L);
+
+        assertThat(first).hasSize(2000);
+        assertThat(first).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(second);
+        assertThat(first.stream().map(Subject::getCourseName).distinct()).hasSize(2000);
+        assertThat(SubjectCatalogFixtures.subjects(2000, 43L))
+            .usingRecursiveFieldByFieldElementComparator()
+            .isNotEqualTo(first);
+    }
+
+    @Test
+    void 같은_시드의_성적표는_같은_행을_담는다() throws IOException {
+        for (GradeDistribution distribution : GradeDistribution.values()) {
+            byte[] bytes = TranscriptFixtures.transcript(120, distribution, 7L);
+
+            assertThat(rows(TranscriptFixtures.transcript(120, distribution, 7L)))
+                .as(distribution.name())
+                .isEqualTo(rows(bytes));
+            try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+                Sheet sheet = workbook.getSheetAt(0);
+                // 0~3행은 제목/학생 정보/헤더, 데이터는 4행부터
+                assertThat(sheet.getLastRowNum()).as(distribution.name()).isEqualTo(3 + 120);
+                for (int i = 0; i < TranscriptFixtures.HEADERS.length; i++) {
+                    assertThat(sheet.getRow(3).getCell(i + 1).getStringCellValue())
+                        .isEqualTo(TranscriptFixtures.HEADERS[i]);
+                }
+            }
+        }
+    }
+
+    // 압축 메타데이터(시각 등)와 무관하게 셀 값만 비교한다.
+    private static List<List<String>> rows(byte[] bytes) throws IOException {
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            List<List<String>> rows = new ArrayList<>();
+            sheet.forEach(row -> {
+                List<String> cells = new ArrayList<>();
+                row.forEach(cell -> cells.add(cell.toString()));
+                rows.add(cells);
+            });
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.hackathon.project.fixture;
+
+import com.hackathon.project.domain.Subject.Subject;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * subjects 테이블 형태의 합성 교과목 카탈로그. 같은 시드면 항상 같은 카탈로그를 만든다.
+ * 학과별 실제 교과목명을 바탕으로 하며, 이름이 겹치면 번호를 붙여 과목명이 유일하도록 한다.
+ */
+public final class SubjectCatalogFixtures {
+
+    static final String GENERAL_EDUCATION = "대양휴머니티칼리지";
+
+    // 학과 -> 대표 교과목명
+    static final Map<String, List<String>> COURSES_BY_DEPARTMENT = Map.of(
+        "컴퓨터공학과", List.of("자료구조", "알고리즘", "운영체제", "컴퓨터네트워크", "데이터베이스", "소프트웨어공학",
+            "컴퓨터구조", "컴파일러", "인공지능", "머신러닝", "딥러닝응용", "웹프로그래밍", "모바일프로그래밍",
+            "클라우드컴퓨팅", "분산시스템", "객체지향프로그래밍"),
+        "정보보호학과", List.of("정보보호개론", "암호학", "네트워크보안", "시스템보안", "디지털포렌식", "웹해킹실습",
+            "악성코드분석", "보안프로그래밍"),
+        "데이터사이언스학과", List.of("데이터사이언스개론", "확률및통계", "회귀분석", "데이터마이닝", "빅데이터처리",
+            "데이터시각화", "추천시스템", "자연어처리"),
+        "경영학부", List.of("경영학원론", "마케팅관리", "재무관리", "회계원리", "조직행동론", "경영전략", "소비자행동론",
+            "비즈니스애널리틱스"),
+        "교육학과", List.of("교육학개론", "교육공학", "교육심리학", "교수설계", "교육평가", "교육과정", "에듀테크와수업설계"),
+        "디자인이노베이션", List.of("UX디자인", "인터랙션디자인", "시각디자인기초", "콘텐츠디자인", "UI프로토타이핑"),
+        "미디어커뮤니케이션학과", List.of("저널리즘의이해", "방송제작실습", "미디어와사회", "커뮤니케이션이론",
+            "신문기사작성"),
+        "수학통계학과", List.of("미적분학", "선형대수", "해석학", "이산수학", "수리통계학"),
+        GENERAL_EDUCATION, List.of("글쓰기와소통", "철학의이해", "세계사의흐름", "영어회화", "창의적사고", "대학생활과진로",
+            "과학기술과사회", "고전읽기와토론")
+    );
+
+    private static final List<String> DEPARTMENTS = COURSES_BY_DEPARTMENT.keySet().stream().sorted().toList();
+    private static final String[] MAJOR_TYPES = {"전필", "전선", "전선", "전기"};
+    private static final String[] GENERAL_TYPES = {"교필", "교선", "교선"};
+    private static final String[] GENERAL_AREAS = {"사상과역사", "사회와문화", "융합과창업", "자연과과학기술", "세계와지구촌"};
+    private static final String[] FORMATS = {"이론", "이론", "실습", "이론+실습", "프로젝트", "블렌디드", "캡스톤"};
+    private static final String[] NOTES = {null, null, null, "프로젝트 중심 수업", "실무 연계 과제", "선수과목: 자료구조",
+        "팀 프로젝트 진행", "영어강의"};
+    private static final String[] BUILDINGS = {"대양AI센터", "광개토관", "율곡관", "집현관", "충무관", "세종관"};
+    private static final String[] DAYS = {"월수", "화목", "월", "화", "수", "목", "금"};
+    private static final String[] TIMES = {"09:00-10:15", "10:30-11:45", "12:00-13:15", "13:30-14:45", "15:00-16:15",
+        "16:30-17:45"};
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오"};
+    private static final String[] GIVEN = {"민", "서", "준", "현", "지", "우", "영", "수", "하", "은", "도", "진"};
+
+    private SubjectCatalogFixtures() {
+    }
+
+    public static List<Subject> subjects(int count, long seed) {
+        Random random = new Random(seed);
+        Map<String, Integer> nameCounts = new HashMap<>();
+        List<Subject> subjects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String department = DEPARTMENTS.get(random.nextInt(DEPARTMENTS.size()));
+            boolean general = department.equals(GENERAL_EDUCATION);
+            List<String> names = COURSES_BY_DEPARTMENT.get(department);
+            String baseName = names.get(random.nextInt(names.size()));
+            int occurrence = nameCounts.merge(baseName, 1, Integer::sum);
+            String courseName = occurrence == 1 ? baseName : baseName + " " + occurrence;
+
+            int gradeLevel = general ? 1 + random.nextInt(2) : 1 + random.nextInt(4);
+            int theory = random.nextInt(4);
+            String format = FORMATS[random.nextInt(FORMATS.length)];
+            boolean english = random.nextInt(10) == 0;
+            subjects.add(Subject.builder()
+                .id((long) i + 1)
+                .offeringDepartmentMajor(department)
+                .courseCode(gradeLevel + "%05d".formatted(random.nextInt(100000)))
+                .section("%03d".formatted(1 + random.nextInt(4)))
+                .courseName(courseName)
+                .lectureLanguage(english ? "영어" : "한국어")
+                .courseType(general
+                    ? GENERAL_TYPES[random.nextInt(GENERAL_TYPES.length)]
+                    : MAJOR_TYPES[random.nextInt(MAJOR_TYPES.length)])
+                .selectedArea(general ? GENERAL_AREAS[random.nextInt(GENERAL_AREAS.length)] : null)
+                .credits(random.nextInt(5) == 0 ? 2.0 : 3.0)
+                .theoryHours(theory)
+                .practiceHours(3 - theory)
+                .gradeLevel(gradeLevel)
+                .targetProgram("학부")
+                .hostDepartment(random.nextInt(5) == 0
+                    ? DEPARTMENTS.get(random.nextInt(DEPARTMENTS.size())) : department)
+                .professorName(SURNAMES[random.nextInt(SURNAMES.length)]
+                    + GIVEN[random.nextInt(GIVEN.length)] + GIVEN[random.nextInt(GIVEN.length)])
+                .schedule(DAYS[random.nextInt(DAYS.length)] + " " + TIMES[random.nextInt(TIMES.length)])
+                .classroom(BUILDINGS[random.nextInt(BUILDINGS.length)] + " " + (100 + random.nextInt(800)))
+                .cyberLecture(format.equals("블렌디드") || random.nextInt(15) == 0 ? "Y" : null)
+                .courseFormat(format)
+                .creditExchangeAvailability(random.nextInt(6) == 0 ? "가능" : null)
+                .notes(english ? "영어강의" : NOTES[random.nextInt(NOTES.length)])
+                .build());
+        }
+        return subjects;
+    }
+
+    /**
+     * subjects 테이블에 넣을 INSERT 문을 batchSize 행씩 묶어 쓴다.
+     */
+    public static void writeSql(Path out, List<Subject> subjects, int batchSize) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            for (int from = 0; from < subjects.size(); from += batchSize) {
+                writer.write("INSERT INTO subjects (offering_department_major, course_code, section, course_name, "
+                    + "lecture_language, course_type, selected_area, credits, theory_hours, practice_hours, "
+                    + "grade_level, target_program, host_department, professor_name, schedule, classroom, "
+                    + "cyber_lecture, course_format, credit_exchange_availability, notes) VALUES\n");
+                int to = Math.min(subjects.size(), from + batchSize);
+                for (int i = from; i < to; i++) {
+                    Subject s = subjects.get(i);
+                    writer.write("(" + String.join(", ",
+                        quote(s.getOfferingDepartmentMajor()), quote(s.getCourseCode()), quote(s.getSection()),
+                        quote(s.getCourseName()), quote(s.getLectureLanguage()), quote(s.getCourseType()),
+                        quote(s.getSelectedArea()), String.valueOf(s.getCredits()),
+                        String.valueOf(s.getTheoryHours()), String.valueOf(s.getPracticeHours()),
+                        String.valueOf(s.getGradeLevel()), quote(s.getTargetProgram()),
+                        quote(s.getHostDepartment()), quote(s.getProfessorName()), quote(s.getSchedule()),
+                        quote(s.getClassroom()), quote(s.getCyberLecture()), quote(s.getCourseFormat()),
+                        quote(s.getCreditExchangeAvailability()), quote(s.getNotes()))
+                        + (i + 1 < to ? "),\n" : ");\n"));
+                }
+            }
+        }
+    }
+
+    private static String quote(String value) {
+        return value == null ? "NULL" : "'" + value.replace("'", "''") + "'";
+    }
+}
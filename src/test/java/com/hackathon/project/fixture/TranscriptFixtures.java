@@ -0,0 +1,159 @@
+package com.hackathon.project.fixture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * RoadmapService.parse가 기대하는 배치(제목/학생 정보/헤더가 0~3행, 데이터 4행부터 1~12열)의 합성 성적표.
+ * 같은 행 수, 등급 분포, 시드면 항상 같은 파일을 만든다.
+ */
+public final class TranscriptFixtures {
+
+    static final String[] HEADERS = {"이수년도", "이수학기", "학수번호", "교과목명", "이수구분", "교직영역", "선택영역",
+        "학점", "평가방식", "등급", "평점", "개설학과코드"};
+
+    private static final List<String> DEPARTMENTS =
+        SubjectCatalogFixtures.COURSES_BY_DEPARTMENT.keySet().stream().sorted().toList();
+    private static final int START_YEAR = 2021;
+
+    private TranscriptFixtures() {
+    }
+
+    /**
+     * 등급별 가중치. P/NP는 P/NP 평가 과목에만, 나머지는 GRADE 평가 과목에만 쓰인다.
+     */
+    public enum GradeDistribution {
+        TYPICAL(new int[]{18, 20, 18, 14, 9, 6, 3, 2, 3}, 10),
+        HIGH(new int[]{45, 30, 12, 6, 3, 2, 1, 1, 0}, 10),
+        LOW(new int[]{4, 6, 10, 14, 16, 16, 12, 10, 12}, 10),
+        PASS_FAIL_HEAVY(new int[]{18, 20, 18, 14, 9, 6, 3, 2, 3}, 40);
+
+        private static final String[] GRADES = {"A+", "A0", "B+", "B0", "C+", "C0", "D+", "D0", "F"};
+        private static final double[] POINTS = {4.5, 4.0, 3.5, 3.0, 2.5, 2.0, 1.5, 1.0, 0.0};
+
+        private final int[] weights;
+        private final int total;
+        private final int passFailPercent;
+
+        GradeDistribution(int[] weights, int passFailPercent) {
+            this.weights = weights;
+            this.passFailPercent = passFailPercent;
+            int sum = 0;
+            for (int weight : weights) {
+                sum += weight;
+            }
+            this.total = sum;
+        }
+
+        private int pick(Random random) {
+            int target = random.nextInt(total);
+            for (int i = 0; i < weights.length; i++) {
+                target -= weights[i];
+                if (target < 0) {
+                    return i;
+                }
+            }
+            return weights.length - 1;
+        }
+    }
+
+    public static byte[] transcript(int rows, GradeDistribution distribution, long seed) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            write(out, rows, distribution, seed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static void writeTranscript(Path path, int rows, GradeDistribution distribution, long seed)
+        throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out, rows, distribution, seed);
+        }
+    }
+
+    // 행 수가 많아도 메모리를 일정하게 쓰도록 스트리밍 워크북으로 쓴다.
+    private static void write(OutputStream out, int rows, GradeDistribution distribution, long seed)
+        throws IOException {
+        Random random = new Random(seed);
+        // 실제 내보내기 파일처럼 공유 문자열 테이블을 쓴다.
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(null, 100, false, true)) {
+            Sheet sheet = workbook.createSheet("기이수성적");
+            sheet.createRow(0).createCell(1).setCellValue("기이수성적조회");
+            Row student = sheet.createRow(1);
+            student.createCell(1).setCellValue("학번");
+            student.createCell(2).setCellValue(String.valueOf(START_YEAR * 10000 + random.nextInt(10000)));
+            sheet.createRow(2).createCell(1).setCellValue("소속");
+            Row header = sheet.createRow(3);
+            for (int c = 0; c < HEADERS.length; c++) {
+                header.createCell(c + 1).setCellValue(HEADERS[c]);
+            }
+
+            // 직전 동계계절에서 출발해 첫 행이 START_YEAR 1학기가 되도록 한다.
+            int year = START_YEAR - 1;
+            int term = 3; // 0: 1학기, 1: 하계계절, 2: 2학기, 3: 동계계절
+            int remaining = 0;
+            for (int i = 0; i < rows; i++) {
+                while (remaining == 0) {
+                    term = (term + 1) % 4;
+                    if (term == 0) {
+                        year++;
+                    }
+                    boolean seasonal = term == 1 || term == 3;
+                    remaining = seasonal ? random.nextInt(2) : 5 + random.nextInt(4);
+                }
+                remaining--;
+                writeCourse(sheet.createRow(4 + i), random, distribution, year, term);
+            }
+            workbook.write(out);
+        }
+    }
+
+    private static void writeCourse(Row row, Random random, GradeDistribution distribution, int year, int term) {
+        String department = DEPARTMENTS.get(random.nextInt(DEPARTMENTS.size()));
+        boolean general = department.equals(SubjectCatalogFixtures.GENERAL_EDUCATION);
+        List<String> names = SubjectCatalogFixtures.COURSES_BY_DEPARTMENT.get(department);
+        boolean passFail = random.nextInt(100) < distribution.passFailPercent;
+
+        String grade;
+        double point;
+        if (passFail) {
+            grade = random.nextInt(20) == 0 ? "NP" : "P";
+            point = 0.0;
+        } else {
+            int index = distribution.pick(random);
+            grade = GradeDistribution.GRADES[index];
+            point = GradeDistribution.POINTS[index];
+        }
+
+        row.createCell(1).setCellValue(year);
+        row.createCell(2).setCellValue(switch (term) {
+            case 0 -> "1학기";
+            case 1 -> "하계계절";
+            case 2 -> "2학기";
+            default -> "동계계절";
+        });
+        row.createCell(3).setCellValue("%06d".formatted(random.nextInt(1000000)));
+        row.createCell(4).setCellValue(names.get(random.nextInt(names.size())));
+        row.createCell(5).setCellValue(general ? (random.nextBoolean() ? "교필" : "교선")
+            : (random.nextBoolean() ? "전필" : "전선"));
+        row.createCell(6).setCellValue("");
+        row.createCell(7).setCellValue(general ? "사상과역사" : "");
+        row.createCell(8).setCellValue(random.nextInt(5) == 0 ? 2.0 : 3.0);
+        row.createCell(9).setCellValue(passFail ? "P/NP" : "GRADE");
+        row.createCell(10).setCellValue(grade);
+        row.createCell(11).setCellValue(point);
+        row.createCell(12).setCellValue("D" + (1000 + DEPARTMENTS.indexOf(department)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.hackathon.project.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.hackathon.project.global.util.CircuitBreaker.State;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    @Test
+    void 최소_호출_수를_채우기_전에는_열리지_않는다() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, 1.0, Duration.ofMinutes(1), 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.record(true, false);
+        }
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.record(true, false);
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.remainingOpen()).isPositive();
+    }
+
+    @Test
+    void 느린_호출_비율로도_열린다() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 1.0, 0.5, Duration.ofMinutes(1), 1);
+
+        breaker.record(false, false);
+        breaker.record(false, true);
+        breaker.record(false, false);
+        assertThat(breaker.slowCallRate()).isCloseTo(1.0 / 3, within(1e-9));
+        breaker.record(false, true);
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void 창에서_밀려난_실패는_비율에서_빠진다() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.75, 1.0, Duration.ofMinutes(1), 1);
+
+        breaker.record(true, false);
+        breaker.record(true, false);
+        breaker.record(false, false);
+        breaker.record(false, false);
+        breaker.record(false, false);
+
+        assertThat(breaker.failureRate()).isEqualTo(0.25);
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void 반열림_시험_호출이_모두_성공하면_닫히고_하나라도_실패하면_다시_열린다() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 0.5, 1.0, Duration.ZERO, 2);
+        breaker.record(true, false);
+        breaker.record(true, false);
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).as("시험 호출 수 초과").isFalse();
+        breaker.record(false, false);
+        breaker.record(false, false);
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        assertThat(breaker.failureRate()).isZero();
+
+        breaker.record(true, false);
+        breaker.record(true, false);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.record(false, true);
+        assertThat(breaker.remainingOpen()).isEqualTo(Duration.ZERO);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+    }
+
+    @Test
+    void 결과_없이_돌려준_허용은_반열림_시험_자리를_비운다() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, 0.5, 1.0, Duration.ZERO, 1);
+        breaker.record(true, false);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.release();
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.record(false, false);
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+        breaker.release();
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    }
+}
@@ -0,0 +1,121 @@
+package com.hackathon.project.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hackathon.project.domain.Roadmap.WeightHintService;
+import com.hackathon.project.domain.Subject.Subject;
+import com.hackathon.project.fixture.SubjectCatalogFixtures;
+import com.hackathon.project.global.util.KeywordAutomaton.Hit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class KeywordAutomatonTest {
+
+    @Test
+    void 겹치거나_접미사인_키워드도_모두_찾는다() {
+        KeywordAutomaton automaton = KeywordAutomaton.builder()
+            .add("he", 0)
+            .add("she", 1)
+            .add("his", 2)
+            .add("hers", 3)
+            .build();
+
+        assertThat(automaton.match("ushers")).isEqualTo(0b1011L);
+        assertThat(automaton.match("ahishe")).isEqualTo(0b0111L);
+        assertThat(automaton.match("xyz")).isZero();
+        assertThat(automaton.match(null)).isZero();
+    }
+
+    @Test
+    void 대소문자를_구분하지_않고_같은_키워드의_그룹은_합친다() {
+        KeywordAutomaton automaton = KeywordAutomaton.builder()
+            .add("Spring", 0)
+            .add("spring", 5)
+            .add("API", 1)
+            .build();
+
+        assertThat(automaton.match("SPRING 기반 api 서버")).isEqualTo((1L << 0) | (1L << 5) | (1L << 1));
+    }
+
+    @Test
+    void 매칭된_키워드와_그룹을_끝나는_위치_순서로_한_번씩_돌려준다() {
+        KeywordAutomaton automaton = KeywordAutomaton.builder()
+            .add("he", 0)
+            .add("she", 1)
+            .add("hers", 3)
+            .add("Spring", 0)
+            .add("spring", 5)
+            .build();
+
+        assertThat(automaton.matches("ushers")).containsExactly(
+            new Hit("she", 1), new Hit("he", 0), new Hit("hers", 3));
+        assertThat(automaton.matches("spring SPRING he")).containsExactly(
+            new Hit("Spring", 0), new Hit("Spring", 5), new Hit("he", 0));
+        assertThat(automaton.matches("xyz")).isEmpty();
+        assertThat(automaton.matches(null)).isEmpty();
+    }
+
+    @Test
+    void 섹터_매칭이_키워드별_contains_결과와_같다() {
+        WeightHintService weightHintService = new WeightHintService();
+        List<String> sectors = weightHintService.getSectors();
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder();
+        for (int i = 0; i < sectors.size(); i++) {
+            builder.addAll(weightHintService.getSectorKeywords().get(sectors.get(i)), i);
+        }
+        KeywordAutomaton automaton = builder.build();
+
+        List<String> texts = new ArrayList<>();
+        for (Subject subject : SubjectCatalogFixtures.subjects(2000, 7L)) {
+            texts.add(subject.getCourseName());
+            texts.add(subject.getNotes());
+            texts.add(subject.getOfferingDepartmentMajor() + " " + subject.getCourseFormat());
+        }
+        texts.add("백엔드 서버 개발자와 AI 연구원, 데이터 분석가 사이에서 고민 중");
+
+        for (String text : texts) {
+            assertThat(automaton.match(text))
+                .as(text)
+                .isEqualTo(naiveMatch(weightHintService, sectors, text));
+            assertThat(new HashSet<>(automaton.matches(text)))
+                .as(text)
+                .isEqualTo(naiveHits(weightHintService, sectors, text));
+        }
+    }
+
+    private static long naiveMatch(WeightHintService weightHintService, List<String> sectors, String text) {
+        if (text == null) {
+            return 0L;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        long groups = 0L;
+        for (int i = 0; i < sectors.size(); i++) {
+            for (String keyword : weightHintService.getSectorKeywords().get(sectors.get(i))) {
+                if (normalized.contains(keyword.toLowerCase(Locale.ROOT))) {
+                    groups |= 1L << i;
+                }
+            }
+        }
+        return groups;
+    }
+
+    private static Set<Hit> naiveHits(WeightHintService weightHintService, List<String> sectors, String text) {
+        Set<Hit> hits = new HashSet<>();
+        if (text == null) {
+            return hits;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < sectors.size(); i++) {
+            for (String keyword : weightHintService.getSectorKeywords().get(sectors.get(i))) {
+                if (normalized.contains(keyword.toLowerCase(Locale.ROOT))) {
+                    hits.add(new Hit(keyword, i));
+                }
+            }
+        }
+        return hits;
+    }
+}
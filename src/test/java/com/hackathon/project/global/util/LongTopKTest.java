@@ -0,0 +1,71 @@
+package com.hackathon.project.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 고정 크기 힙으로 고른 상위 K개가 전체를 정렬해 앞에서 자르던 기존 방식과 같은지 확인한다.
+ */
+class LongTopKTest {
+
+    @Test
+    void 상위_K개는_전체_정렬의_앞부분과_같다() {
+        Random random = new Random(3L);
+        for (int capacity : new int[]{1, 5, 64, 500, 1000}) {
+            // 범위를 좁혀 같은 키가 여러 번 나오도록 한다.
+            long[] keys = random.longs(500, -200, 200).toArray();
+
+            LongTopK topK = new LongTopK(capacity);
+            for (long key : keys) {
+                topK.offer(key);
+            }
+
+            assertThat(topK.toSortedArray())
+                .as("capacity=%d", capacity)
+                .containsExactly(fullSortPrefix(keys, capacity));
+        }
+    }
+
+    @Test
+    void 나눠_모은_힙을_합쳐도_한_번에_모은_결과와_같다() {
+        long[] keys = new Random(5L).longs(1000).toArray();
+        LongTopK merged = new LongTopK(20);
+        for (int from = 0; from < keys.length; from += 128) {
+            LongTopK part = new LongTopK(20);
+            for (int i = from; i < Math.min(keys.length, from + 128); i++) {
+                part.offer(keys[i]);
+            }
+            merged.addAll(part);
+        }
+
+        assertThat(merged.toSortedArray()).containsExactly(fullSortPrefix(keys, 20));
+        assertThat(merged.min()).isEqualTo(fullSortPrefix(keys, 20)[19]);
+    }
+
+    @Test
+    void 가득_차지_않은_힙은_넣은_키를_모두_돌려준다() {
+        LongTopK topK = new LongTopK(10);
+        assertThat(topK.min()).isEqualTo(Long.MIN_VALUE);
+
+        topK.offer(3L);
+        topK.offer(-1L);
+        topK.offer(7L);
+
+        assertThat(topK.isFull()).isFalse();
+        assertThat(topK.toSortedArray()).containsExactly(7L, 3L, -1L);
+        assertThatThrownBy(() -> new LongTopK(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 기존 구현처럼 전부 내림차순 정렬한 뒤 앞에서 자른다.
+    private static long[] fullSortPrefix(long[] keys, int limit) {
+        long[] sorted = Arrays.stream(keys).boxed()
+            .sorted((a, b) -> Long.compare(b, a))
+            .mapToLong(Long::longValue)
+            .toArray();
+        return Arrays.copyOf(sorted, Math.min(limit, sorted.length));
+    }
+}
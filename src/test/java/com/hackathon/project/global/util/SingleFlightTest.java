@@ -0,0 +1,185 @@
+package com.hackathon.project.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final ExecutorService sharedCalls = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final SingleFlight<String> singleFlight = new SingleFlight<>(sharedCalls);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        sharedCalls.shutdownNow();
+    }
+
+    @Test
+    void 동시에_들어온_같은_키의_호출은_한_번만_실행한다() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = callers.submit(() -> singleFlight.execute("k", WAIT, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "v";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> second = callers.submit(() -> singleFlight.execute("k", WAIT, () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        awaitInFlight(second);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void 먼저_들어온_호출이_취소되어도_공유_호출과_다른_호출은_계속된다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean loaderInterrupted = new AtomicBoolean();
+
+        Future<String> first = callers.submit(() -> singleFlight.execute("k", WAIT, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                loaderInterrupted.set(true);
+                throw new IllegalStateException(e);
+            }
+            return "v";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> second = callers.submit(() -> singleFlight.execute("k", WAIT, () -> "other"));
+        awaitInFlight(second);
+
+        first.cancel(true);
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        assertThat(loaderInterrupted).isFalse();
+    }
+
+    @Test
+    void 대기_시간을_넘긴_호출만_실패하고_남은_호출은_공유_호출의_결과를_받는다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+
+        Future<String> patient = callers.submit(() -> singleFlight.execute("k", WAIT, () -> {
+            started.countDown();
+            await(release);
+            completed.incrementAndGet();
+            return "v";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> singleFlight.execute("k", Duration.ofMillis(50), () -> "other"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("시간 초과");
+        release.countDown();
+
+        assertThat(patient.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        assertThat(completed).hasValue(1);
+    }
+
+    @Test
+    void 기다리는_호출이_모두_떠나면_공유_호출을_취소한다() throws Exception {
+        CountDownLatch loaderInterrupted = new CountDownLatch(1);
+        Supplier<String> blocking = () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                loaderInterrupted.countDown();
+            }
+            throw new IllegalStateException("취소됨");
+        };
+
+        Future<String> first = callers.submit(() -> singleFlight.execute("k", WAIT, blocking));
+        awaitInFlight(first);
+        assertThatThrownBy(() -> singleFlight.execute("k", Duration.ofMillis(50), blocking))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("시간 초과");
+        assertThat(loaderInterrupted.getCount()).as("대기자가 남아 있는 동안은 계속된다").isEqualTo(1);
+
+        first.cancel(true);
+        assertThat(loaderInterrupted.await(5, TimeUnit.SECONDS)).as("공유 호출 인터럽트").isTrue();
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute("k", WAIT, () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    void 공유_호출의_예외는_기다리던_모든_호출에_전달되고_키는_지워진다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalArgumentException failure = new IllegalArgumentException("boom");
+
+        Future<String> first = callers.submit(() -> singleFlight.execute("k", WAIT, () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> second = callers.submit(() -> singleFlight.execute("k", WAIT, () -> "other"));
+        awaitInFlight(second);
+        release.countDown();
+
+        for (Future<String> caller : List.of(first, second)) {
+            assertThatThrownBy(() -> caller.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isSameAs(failure);
+        }
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute("k", WAIT, () -> "next")).isEqualTo("next");
+    }
+
+    // 뒤에 들어온 호출이 공유 호출에 붙어 대기하기 시작할 때까지 기다린다.
+    private static void awaitInFlight(Future<?> caller) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (caller.state() == Future.State.RUNNING) {
+                Thread.sleep(50);
+                return;
+            }
+            Thread.sleep(1);
+        }
+        throw new AssertionError("호출이 시작되지 않았습니다.");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}